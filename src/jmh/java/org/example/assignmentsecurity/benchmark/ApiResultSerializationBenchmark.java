@@ -0,0 +1,62 @@
+package org.example.assignmentsecurity.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.format.ApiResult;
+import org.example.assignmentsecurity.common.format.ErrorResponseBodies;
+import org.example.assignmentsecurity.config.security.dto.LoginRespDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiResultSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private LoginRespDto loginRespDto;
+    private ErrorResponseBodies errorResponseBodies;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        errorResponseBodies = new ErrorResponseBodies(objectMapper);
+        loginRespDto = new LoginRespDto("Bearer eyJraWQiOiJocy1qVlYtYV94SDFJdyIsImFsZyI6IkhTMjU2In0.eyJzdWIiOiJiZW5jaG1hcmsiLCJSb2xlIjoxLCJleHAiOjE3Mzc4ODA4NDJ9.signature");
+    }
+
+    @Benchmark
+    public String successResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(ApiResult.success(loginRespDto));
+    }
+
+    @Benchmark
+    public String errorResult() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(ApiResult.error(ErrorCode.TOKEN_NOT_FOUND));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse errorResponse() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResult.error(ErrorCode.TOKEN_NOT_FOUND)));
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse prerenderedErrorResponse() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        errorResponseBodies.write(response, ErrorCode.TOKEN_NOT_FOUND);
+        return response;
+    }
+}
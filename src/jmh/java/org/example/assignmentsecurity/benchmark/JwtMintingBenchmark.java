@@ -0,0 +1,54 @@
+package org.example.assignmentsecurity.benchmark;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.HmacJwtFastVerifier;
+import org.example.assignmentsecurity.config.security.HmacJwtSigner;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.LoginAuthentication;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.config.security.key.JwtKeyStore;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtMintingBenchmark {
+
+    private JwtProvider jjwtProvider;
+    private JwtProvider fastPathProvider;
+    private LoginAuthentication authentication;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(JwtVerificationBenchmark.SECRET_KEY, "hs-1", SignatureAlgorithm.HS256, "", "", 2592000, 0, 300, new JwtKeyStore(""));
+        jwtKeyRing.init();
+
+        jjwtProvider = new JwtProvider(jwtKeyRing, new HmacJwtFastVerifier(jwtKeyRing, false), new HmacJwtSigner(jwtKeyRing, false));
+        jjwtProvider.init();
+        fastPathProvider = new JwtProvider(jwtKeyRing, new HmacJwtFastVerifier(jwtKeyRing, true), new HmacJwtSigner(jwtKeyRing, true));
+        fastPathProvider.init();
+
+        authentication = new LoginAuthentication(new AuthUser("benchmark", List.of(Role.USER)));
+    }
+
+    @Benchmark
+    public String jjwtMint() {
+        return jjwtProvider.generateAccessToken(authentication);
+    }
+
+    @Benchmark
+    public String fastPathMint() {
+        return fastPathProvider.generateAccessToken(authentication);
+    }
+}
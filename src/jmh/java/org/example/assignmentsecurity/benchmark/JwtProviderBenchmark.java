@@ -0,0 +1,64 @@
+package org.example.assignmentsecurity.benchmark;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.HmacJwtFastVerifier;
+import org.example.assignmentsecurity.config.security.HmacJwtSigner;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.LoginAuthentication;
+import org.example.assignmentsecurity.config.security.VerifiedToken;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.config.security.key.JwtKeyStore;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private LoginAuthentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(JwtVerificationBenchmark.SECRET_KEY, "hs-1", SignatureAlgorithm.HS256, "", "", 2592000, 0, 300, new JwtKeyStore(""));
+        jwtKeyRing.init();
+
+        jwtProvider = new JwtProvider(jwtKeyRing, new HmacJwtFastVerifier(jwtKeyRing, false), new HmacJwtSigner(jwtKeyRing, false));
+        jwtProvider.init();
+
+        authentication = new LoginAuthentication(new AuthUser("benchmark", List.of(Role.USER)));
+        token = jwtProvider.generateAccessToken(authentication).substring(JwtProvider.TOKEN_PREFIX.length());
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtProvider.generateAccessToken(authentication);
+    }
+
+    @Benchmark
+    public void validateToken() {
+        jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public AuthUser getAuthUserForToken() {
+        return jwtProvider.getAuthUserForToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtProvider.verify(token);
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.assignmentsecurity.benchmark;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.HmacJwtFastVerifier;
+import org.example.assignmentsecurity.config.security.HmacJwtSigner;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.LoginAuthentication;
+import org.example.assignmentsecurity.config.security.VerifiedToken;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.config.security.key.JwtKeyStore;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    static final String SECRET_KEY = "YyZ1a2b3c4d5e6f7g8h9i0j1k2l3m4n5o6p7q8r9s0t1u2v3w4x5y6z7A8B9C0D1";
+
+    private JwtProvider jjwtProvider;
+    private JwtProvider fastPathProvider;
+    private String tokenValue;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, "hs-1", SignatureAlgorithm.HS256, "", "", 2592000, 0, 300, new JwtKeyStore(""));
+        jwtKeyRing.init();
+
+        jjwtProvider = new JwtProvider(jwtKeyRing, new HmacJwtFastVerifier(jwtKeyRing, false), new HmacJwtSigner(jwtKeyRing, false));
+        jjwtProvider.init();
+        fastPathProvider = new JwtProvider(jwtKeyRing, new HmacJwtFastVerifier(jwtKeyRing, true), new HmacJwtSigner(jwtKeyRing, true));
+        fastPathProvider.init();
+
+        tokenValue = jjwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("benchmark", List.of(Role.USER))));
+    }
+
+    @Benchmark
+    public VerifiedToken jjwtVerify() {
+        return jjwtProvider.verifyBearer(tokenValue);
+    }
+
+    @Benchmark
+    public VerifiedToken fastPathVerify() {
+        return fastPathProvider.verifyBearer(tokenValue);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.assignmentsecurity.benchmark;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.example.assignmentsecurity.common.format.ErrorResponseBodies;
+import org.example.assignmentsecurity.config.security.HmacJwtFastVerifier;
+import org.example.assignmentsecurity.config.security.HmacJwtSigner;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.TokenRevocationList;
+import org.example.assignmentsecurity.config.security.VerifiedTokenCache;
+import org.example.assignmentsecurity.config.security.event.SecurityEventPublisher;
+import org.example.assignmentsecurity.config.security.filter.GlobalFilterExceptionHandler;
+import org.example.assignmentsecurity.config.security.filter.JwtAuthorizationHandler;
+import org.example.assignmentsecurity.config.security.filter.SecurityDispatchFilter;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.config.security.key.JwtKeyStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RejectionPathBenchmark {
+
+    private SecurityDispatchFilter securityDispatchFilter;
+    private FilterChain filterChain;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(JwtVerificationBenchmark.SECRET_KEY, "hs-1", SignatureAlgorithm.HS256, "", "", 2592000, 0, 300, new JwtKeyStore(""));
+        jwtKeyRing.init();
+        JwtProvider jwtProvider = new JwtProvider(jwtKeyRing, new HmacJwtFastVerifier(jwtKeyRing, true), new HmacJwtSigner(jwtKeyRing, true));
+        jwtProvider.init();
+
+        ErrorResponseBodies errorResponseBodies = new ErrorResponseBodies(Jackson2ObjectMapperBuilder.json().build());
+        SecurityEventPublisher securityEventPublisher = new SecurityEventPublisher(1, 1, new SimpleMeterRegistry());
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(false, 0, 0, new SimpleMeterRegistry());
+        securityDispatchFilter = new SecurityDispatchFilter(
+                new GlobalFilterExceptionHandler(errorResponseBodies, securityEventPublisher),
+                null,
+                null,
+                new JwtAuthorizationHandler(jwtProvider, verifiedTokenCache, new TokenRevocationList(16, 0.01, new SimpleMeterRegistry()))
+        );
+        filterChain = (request, response) -> {
+        };
+    }
+
+    @Benchmark
+    public MockHttpServletResponse rejectMissingToken() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        securityDispatchFilter.doFilter(request, response, filterChain);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse rejectMalformedToken() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader(JwtProvider.AUTHENTICATION_HEADER_PREFIX, "Bearer not.a.token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        securityDispatchFilter.doFilter(request, response, filterChain);
+        return response;
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.assignmentsecurity.benchmark;
+
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.PublicPathRegistry;
+import org.example.assignmentsecurity.config.security.filter.SecurityRoute;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.example.assignmentsecurity.domain.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityFilterBenchmark {
+
+    @Param({"/api/users", "/auth/login", "/auth/refresh", "/swagger-ui/index.html", "/favicon.ico"})
+    private String requestUri;
+
+    private List<Role> roles;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        roles = List.of(Role.USER);
+        user = User.builder()
+                .id(1L)
+                .username("benchmark")
+                .nickname("benchmark")
+                .password("password")
+                .authorities(roles)
+                .build();
+    }
+
+    @Benchmark
+    public boolean isPublicPath() {
+        return PublicPathRegistry.isPublic(requestUri);
+    }
+
+    @Benchmark
+    public SecurityRoute resolveRoute() {
+        return SecurityRoute.resolve("POST", requestUri);
+    }
+
+    @Benchmark
+    public AuthUser newAuthUser() {
+        return new AuthUser("benchmark", roles);
+    }
+
+    @Benchmark
+    public AuthUser authUserOfUser() {
+        return AuthUser.of(user);
+    }
+}
@@ -5,10 +5,27 @@ import lombok.Getter;
 @Getter
 public class BusinessException extends RuntimeException {
 
+    private static final BusinessException[] STACKLESS = new BusinessException[ErrorCode.values().length];
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            STACKLESS[errorCode.ordinal()] = new BusinessException(errorCode, false);
+        }
+    }
+
     private final ErrorCode errorCode;
 
     public BusinessException(ErrorCode errorCode) {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
     }
+
+    private BusinessException(ErrorCode errorCode, boolean writableStackTrace) {
+        super(errorCode.getMessage(), null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
+
+    public static BusinessException of(ErrorCode errorCode) {
+        return STACKLESS[errorCode.ordinal()];
+    }
 }
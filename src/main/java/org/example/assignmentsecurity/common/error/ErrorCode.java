@@ -13,14 +13,20 @@ public enum ErrorCode {
     UNSUPPORTED_JWT_TOKEN(HttpStatus.UNAUTHORIZED.value(), "지원되지 않는 JWT 토큰입니다."),
     INVALID_JWT_TOKEN(HttpStatus.UNAUTHORIZED.value(), "잘못된 JWT 토큰입니다."),
     EXPIRED_JWT_TOKEN(HttpStatus.FORBIDDEN.value(), "만료된 JWT 토큰입니다."),
+    REVOKED_JWT_TOKEN(HttpStatus.UNAUTHORIZED.value(), "폐기된 JWT 토큰입니다."),
     JSON_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Json 파싱 에러입니다."),
     INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED.value(), "인증에 실패하였습니다."),
     TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED.value(), "토큰 정보를 찾을 수 없습니다."),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "해당 유저를 찾을 수 없습니다."),
     MISS_MATCH_PASSWORD(HttpStatus.UNAUTHORIZED.value(), "비밀번호가 맞지 않습니다."),
     SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 에러가 발생하였습니다."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS.value(), "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED.value(), "Refresh 토큰을 찾을 수 없습니다."),
     EXPIRED_REFRESH_TOKEN(HttpStatus.FORBIDDEN.value(), "Refresh 토큰이 만료되었습니다."),
+    INTROSPECTION_BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST.value(), "한 번에 검증할 수 있는 토큰 개수를 초과하였습니다."),
+    TOKEN_OWNER_MISMATCH(HttpStatus.FORBIDDEN.value(), "본인의 토큰만 폐기할 수 있습니다."),
+    TOO_MANY_INTROSPECTION_REQUESTS(HttpStatus.TOO_MANY_REQUESTS.value(), "토큰 검증 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
 
     // User Domain Exception
     EXISTS_ALREADY_USER(HttpStatus.BAD_REQUEST.value(), "해당 닉네임을 가진 유저가 이미 존재합니다."),
@@ -1,16 +1,22 @@
 package org.example.assignmentsecurity.common.error;
 
-import org.example.assignmentsecurity.common.format.ApiResult;
+import lombok.RequiredArgsConstructor;
+import org.example.assignmentsecurity.common.format.ErrorResponseBodies;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalControllerExceptionHandler {
 
+    private final ErrorResponseBodies errorResponseBodies;
+
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ApiResult<String>> businessHandler(BusinessException e) {
+    public ResponseEntity<byte[]> businessHandler(BusinessException e) {
         return ResponseEntity.status(e.getErrorCode().getStatus())
-                .body(ApiResult.error(e.getErrorCode()));
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponseBodies.get(e.getErrorCode()));
     }
 }
@@ -5,6 +5,14 @@ import lombok.Getter;
 @Getter
 public class SecurityFilterChainException extends RuntimeException {
 
+    private static final SecurityFilterChainException[] STACKLESS = new SecurityFilterChainException[ErrorCode.values().length];
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            STACKLESS[errorCode.ordinal()] = new SecurityFilterChainException(errorCode, false);
+        }
+    }
+
     private final ErrorCode errorCode;
 
     public SecurityFilterChainException(ErrorCode errorCode) {
@@ -16,4 +24,13 @@ public class SecurityFilterChainException extends RuntimeException {
         super(cause);
         this.errorCode = errorCode;
     }
+
+    private SecurityFilterChainException(ErrorCode errorCode, boolean writableStackTrace) {
+        super(errorCode.getMessage(), null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
+
+    public static SecurityFilterChainException of(ErrorCode errorCode) {
+        return STACKLESS[errorCode.ordinal()];
+    }
 }
@@ -0,0 +1,40 @@
+package org.example.assignmentsecurity.common.format;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class ErrorResponseBodies {
+
+    private final byte[][] bodies = new byte[ErrorCode.values().length][];
+
+    public ErrorResponseBodies(ObjectMapper objectMapper) {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            try {
+                bodies[errorCode.ordinal()] = objectMapper.writeValueAsBytes(ApiResult.error(errorCode));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("에러 응답 본문을 생성할 수 없습니다. : " + errorCode, e);
+            }
+        }
+    }
+
+    public byte[] get(ErrorCode errorCode) {
+        return bodies[errorCode.ordinal()];
+    }
+
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = get(errorCode);
+        response.setStatus(errorCode.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
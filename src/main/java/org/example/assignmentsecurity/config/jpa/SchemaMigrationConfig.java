@@ -0,0 +1,16 @@
+package org.example.assignmentsecurity.config.jpa;
+
+import org.example.assignmentsecurity.domain.token.RefreshTokenHashMigration;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SchemaMigrationConfig {
+
+    // Hibernate 가 스키마를 검증하거나 갱신하기 전에 기존 테이블 이관을 먼저 끝낸다.
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaMigrationDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor(RefreshTokenHashMigration.class);
+    }
+}
@@ -6,23 +6,43 @@ import org.example.assignmentsecurity.domain.user.User;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 public class AuthUser {
 
+    private static final List<List<GrantedAuthority>> AUTHORITIES_BY_MASK = new ArrayList<>();
+
+    static {
+        int maskCount = 1 << Role.values().length;
+        for (int mask = 0; mask < maskCount; mask++) {
+            AUTHORITIES_BY_MASK.add(Role.fromMask(mask).stream()
+                    .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.getAuthorityName()))
+                    .toList());
+        }
+    }
+
+    private final Long id;
     private final String nickname;
     private final Collection<? extends GrantedAuthority> authorities;
 
     public AuthUser(String nickname, List<Role> role) {
+        this(null, nickname, role);
+    }
+
+    public AuthUser(Long id, String nickname, List<Role> role) {
+        this.id = id;
         this.nickname = nickname;
-        this.authorities = role.stream()
-                .map(e -> new SimpleGrantedAuthority(e.getAuthorityName())).collect(Collectors.toList());
+        int mask = 0;
+        for (Role e : role) {
+            mask |= e.getMask();
+        }
+        this.authorities = AUTHORITIES_BY_MASK.get(mask);
     }
 
     public static AuthUser of(User user) {
-        return new AuthUser(user.getNickname(), user.getAuthorities());
+        return new AuthUser(user.getId(), user.getNickname(), user.getAuthorities());
     }
 }
@@ -0,0 +1,386 @@
+package org.example.assignmentsecurity.config.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.config.security.key.JwtSigningKey;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+public class HmacJwtFastVerifier {
+
+    private static final int MAX_TOKEN_LENGTH = 4096;
+    private static final int MAX_NUMBER_DIGITS = 15;
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final byte[] BASE64_URL_VALUES = new byte[128];
+
+    private static final byte[] ALG = bytes("alg");
+    private static final byte[] KID = bytes("kid");
+    private static final byte[] TYP = bytes("typ");
+    private static final byte[] JWT = bytes("JWT");
+    private static final byte[] HS256 = bytes(SignatureAlgorithm.HS256.getValue());
+    private static final byte[] JTI = bytes("jti");
+    private static final byte[] SUB = bytes("sub");
+    private static final byte[] ROLE = bytes(RoleClaim.NAME);
+    private static final byte[] EXP = bytes("exp");
+
+    static {
+        Arrays.fill(BASE64_URL_VALUES, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL_VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final JwtKeyRing jwtKeyRing;
+    private final boolean enabled;
+    private final ThreadLocal<Buffers> buffers;
+    private volatile String acceptedHeader;
+    private volatile KidBytes kidBytes;
+
+    public HmacJwtFastVerifier(
+            JwtKeyRing jwtKeyRing,
+            @Value("${jwt.fast-path.enabled:false}") boolean enabled
+    ) {
+        this.jwtKeyRing = jwtKeyRing;
+        this.enabled = enabled;
+        this.buffers = ThreadLocal.withInitial(() -> new Buffers(jwtKeyRing.getHmacKey().getSigningKey()));
+    }
+
+    public VerifiedToken verify(String value, int start) {
+        if (!enabled) {
+            return null;
+        }
+
+        int end = value.length();
+        int firstDot = value.indexOf('.', start);
+        int secondDot = firstDot < 0 ? -1 : value.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || end - start > MAX_TOKEN_LENGTH || value.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+
+        Buffers buffers = this.buffers.get();
+        if (!acceptsHeader(value, start, firstDot, buffers) || !verifySignature(value, start, secondDot, end, buffers)) {
+            return null;
+        }
+
+        int payloadLength = decode(value, firstDot + 1, secondDot, buffers.payload);
+        return payloadLength < 0 ? null : readClaims(buffers, payloadLength);
+    }
+
+    private boolean acceptsHeader(String value, int start, int firstDot, Buffers buffers) {
+        int length = firstDot - start;
+        String accepted = acceptedHeader;
+        if (accepted != null && accepted.length() == length && value.regionMatches(start, accepted, 0, length)) {
+            return true;
+        }
+
+        int headerLength = decode(value, start, firstDot, buffers.header);
+        FlatJsonReader reader = buffers.reader;
+        if (headerLength < 0 || !reader.begin(buffers.header, headerLength)) {
+            return false;
+        }
+
+        byte[] kid = kidBytes();
+        boolean hs256 = false;
+        int result;
+        while ((result = reader.next()) == FlatJsonReader.MEMBER) {
+            if (reader.keyEquals(ALG) && reader.stringEquals(HS256)) {
+                hs256 = true;
+            } else if (!(reader.keyEquals(KID) && reader.stringEquals(kid)) && !(reader.keyEquals(TYP) && reader.stringEquals(JWT))) {
+                return false;
+            }
+        }
+        if (result != FlatJsonReader.END || !hs256) {
+            return false;
+        }
+
+        acceptedHeader = value.substring(start, firstDot);
+        return true;
+    }
+
+    private byte[] kidBytes() {
+        JwtSigningKey hmacKey = jwtKeyRing.getHmacKey();
+        KidBytes cached = kidBytes;
+        if (cached == null || cached.key() != hmacKey) {
+            cached = new KidBytes(hmacKey, bytes(hmacKey.getKid()));
+            kidBytes = cached;
+        }
+        return cached.bytes();
+    }
+
+    private boolean verifySignature(String value, int start, int secondDot, int end, Buffers buffers) {
+        int inputLength = secondDot - start;
+        byte[] signingInput = buffers.signingInput;
+        for (int i = 0; i < inputLength; i++) {
+            char c = value.charAt(start + i);
+            if (c >= 0x80) {
+                return false;
+            }
+            signingInput[i] = (byte) c;
+        }
+
+        if (decode(value, secondDot + 1, end, buffers.signature) != SIGNATURE_LENGTH) {
+            return false;
+        }
+
+        Mac mac = buffers.mac;
+        mac.update(signingInput, 0, inputLength);
+        try {
+            mac.doFinal(buffers.expectedSignature, 0);
+        } catch (ShortBufferException e) {
+            return false;
+        }
+
+        int diff = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            diff |= buffers.expectedSignature[i] ^ buffers.signature[i];
+        }
+        return diff == 0;
+    }
+
+    private VerifiedToken readClaims(Buffers buffers, int payloadLength) {
+        FlatJsonReader reader = buffers.reader;
+        if (!reader.begin(buffers.payload, payloadLength)) {
+            return null;
+        }
+
+        String jti = null;
+        String subject = null;
+        long roleMask = -1;
+        long expiration = -1;
+        int result;
+        while ((result = reader.next()) == FlatJsonReader.MEMBER) {
+            if (reader.keyEquals(JTI) && reader.isString()) {
+                jti = reader.stringValue();
+            } else if (reader.keyEquals(SUB) && reader.isString()) {
+                subject = reader.stringValue();
+            } else if (reader.keyEquals(ROLE) && reader.isNumber()) {
+                roleMask = reader.longValue();
+            } else if (reader.keyEquals(EXP) && reader.isNumber()) {
+                expiration = reader.longValue();
+            } else {
+                return null;
+            }
+        }
+
+        if (result != FlatJsonReader.END || subject == null || roleMask < 0 || roleMask > Integer.MAX_VALUE || expiration < 0) {
+            return null;
+        }
+
+        long expiresAt = expiration * 1000;
+        if (System.currentTimeMillis() > expiresAt) {
+            throw SecurityFilterChainException.of(ErrorCode.EXPIRED_JWT_TOKEN);
+        }
+
+        List<Role> roles;
+        try {
+            roles = Role.fromMask((int) roleMask);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return new VerifiedToken(new AuthUser(subject, roles), jti, expiresAt);
+    }
+
+    private static int decode(String value, int from, int to, byte[] out) {
+        int length = to - from;
+        if (length % 4 == 1 || (long) length * 6 / 8 > out.length) {
+            return -1;
+        }
+
+        int accumulator = 0;
+        int bits = 0;
+        int written = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            int sextet = c < 128 ? BASE64_URL_VALUES[c] : -1;
+            if (sextet < 0) {
+                return -1;
+            }
+            accumulator = ((accumulator << 6) | sextet) & 0xFFFF;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                out[written++] = (byte) (accumulator >> bits);
+            }
+        }
+        if ((accumulator & ((1 << bits) - 1)) != 0) {
+            return -1;
+        }
+        return written;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record KidBytes(JwtSigningKey key, byte[] bytes) {
+    }
+
+    private static final class Buffers {
+
+        private final Mac mac;
+        private final byte[] signingInput = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] header = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signature = new byte[SIGNATURE_LENGTH + 3];
+        private final byte[] expectedSignature = new byte[SIGNATURE_LENGTH];
+        private final FlatJsonReader reader = new FlatJsonReader();
+
+        private Buffers(Key key) {
+            try {
+                this.mac = Mac.getInstance(SignatureAlgorithm.HS256.getJcaName());
+                this.mac.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class FlatJsonReader {
+
+        static final int MEMBER = 1;
+        static final int END = 0;
+        static final int UNSUPPORTED = -1;
+
+        private byte[] buffer;
+        private int limit;
+        private int position;
+        private boolean first;
+        private int keyStart;
+        private int keyEnd;
+        private int valueStart;
+        private int valueEnd;
+        private boolean stringValue;
+
+        boolean begin(byte[] buffer, int limit) {
+            this.buffer = buffer;
+            this.limit = limit;
+            this.position = 0;
+            this.first = true;
+            skipWhitespace();
+            if (position >= limit || buffer[position] != '{') {
+                return false;
+            }
+            position++;
+            return true;
+        }
+
+        int next() {
+            skipWhitespace();
+            if (position >= limit) {
+                return UNSUPPORTED;
+            }
+            if (buffer[position] == '}') {
+                position++;
+                skipWhitespace();
+                return position == limit ? END : UNSUPPORTED;
+            }
+            if (!first) {
+                if (buffer[position] != ',') {
+                    return UNSUPPORTED;
+                }
+                position++;
+                skipWhitespace();
+            }
+            first = false;
+
+            if (!readString()) {
+                return UNSUPPORTED;
+            }
+            keyStart = valueStart;
+            keyEnd = valueEnd;
+
+            skipWhitespace();
+            if (position >= limit || buffer[position] != ':') {
+                return UNSUPPORTED;
+            }
+            position++;
+            skipWhitespace();
+            if (position >= limit) {
+                return UNSUPPORTED;
+            }
+
+            byte b = buffer[position];
+            if (b == '"') {
+                stringValue = true;
+                return readString() ? MEMBER : UNSUPPORTED;
+            }
+            if (b >= '0' && b <= '9') {
+                stringValue = false;
+                valueStart = position;
+                while (position < limit && buffer[position] >= '0' && buffer[position] <= '9') {
+                    position++;
+                }
+                valueEnd = position;
+                return valueEnd - valueStart <= MAX_NUMBER_DIGITS ? MEMBER : UNSUPPORTED;
+            }
+            return UNSUPPORTED;
+        }
+
+        boolean keyEquals(byte[] name) {
+            return Arrays.equals(buffer, keyStart, keyEnd, name, 0, name.length);
+        }
+
+        boolean stringEquals(byte[] value) {
+            return stringValue && Arrays.equals(buffer, valueStart, valueEnd, value, 0, value.length);
+        }
+
+        boolean isString() {
+            return stringValue;
+        }
+
+        boolean isNumber() {
+            return !stringValue;
+        }
+
+        String stringValue() {
+            return new String(buffer, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+        }
+
+        long longValue() {
+            long value = 0;
+            for (int i = valueStart; i < valueEnd; i++) {
+                value = value * 10 + (buffer[i] - '0');
+            }
+            return value;
+        }
+
+        private boolean readString() {
+            if (buffer[position] != '"') {
+                return false;
+            }
+            valueStart = ++position;
+            while (position < limit) {
+                byte b = buffer[position];
+                if (b == '"') {
+                    valueEnd = position++;
+                    return true;
+                }
+                if (b == '\\' || (b >= 0 && b < 0x20)) {
+                    return false;
+                }
+                position++;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (position < limit && (buffer[position] == ' ' || buffer[position] == '\t'
+                    || buffer[position] == '\n' || buffer[position] == '\r')) {
+                position++;
+            }
+        }
+    }
+}
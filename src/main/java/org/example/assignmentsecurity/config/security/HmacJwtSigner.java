@@ -0,0 +1,98 @@
+package org.example.assignmentsecurity.config.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.config.security.key.JwtSigningKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+@Component
+public class HmacJwtSigner {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final char[] SHORT_ESCAPES = new char[0x20];
+
+    static {
+        SHORT_ESCAPES['\b'] = 'b';
+        SHORT_ESCAPES['\t'] = 't';
+        SHORT_ESCAPES['\n'] = 'n';
+        SHORT_ESCAPES['\f'] = 'f';
+        SHORT_ESCAPES['\r'] = 'r';
+    }
+
+    private final JwtKeyRing jwtKeyRing;
+    private final boolean enabled;
+    private final ThreadLocal<Mac> macs;
+    private volatile String encodedHeader;
+
+    public HmacJwtSigner(
+            JwtKeyRing jwtKeyRing,
+            @Value("${jwt.fast-path.enabled:false}") boolean enabled
+    ) {
+        this.jwtKeyRing = jwtKeyRing;
+        this.enabled = enabled;
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(SignatureAlgorithm.HS256.getJcaName());
+                mac.init(jwtKeyRing.getHmacKey().getSigningKey());
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    public boolean supports(JwtSigningKey signingKey) {
+        return enabled && signingKey == jwtKeyRing.getHmacKey();
+    }
+
+    public String sign(String jti, String subject, int roleMask, long expiresAt) {
+        StringBuilder payload = new StringBuilder(96 + subject.length())
+                .append("{\"jti\":\"");
+        appendEscaped(payload, jti);
+        payload.append("\",\"sub\":\"");
+        appendEscaped(payload, subject);
+        payload.append("\",\"").append(RoleClaim.NAME).append("\":").append(roleMask)
+                .append(",\"exp\":").append(expiresAt / 1000)
+                .append('}');
+
+        String signingInput = encodedHeader() + '.'
+                + BASE64_URL.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] signature = macs.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + '.' + BASE64_URL.encodeToString(signature);
+    }
+
+    private String encodedHeader() {
+        String header = encodedHeader;
+        if (header == null) {
+            String json = "{\"kid\":\"" + jwtKeyRing.getHmacKey().getKid() + "\",\"alg\":\"" + SignatureAlgorithm.HS256.getValue() + "\"}";
+            header = BASE64_URL.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+            encodedHeader = header;
+        }
+        return header;
+    }
+
+    private static void appendEscaped(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                char shortEscape = SHORT_ESCAPES[c];
+                if (shortEscape != 0) {
+                    builder.append('\\').append(shortEscape);
+                } else {
+                    builder.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+}
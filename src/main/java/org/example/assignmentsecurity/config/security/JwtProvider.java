@@ -1,98 +1,133 @@
 package org.example.assignmentsecurity.config.security;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.example.assignmentsecurity.common.error.ErrorCode;
 import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
-import org.example.assignmentsecurity.domain.user.Role;
-import org.springframework.beans.factory.annotation.Value;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.config.security.key.JwtSigningKey;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
-import java.util.Base64;
 import java.util.Date;
-import java.util.List;
-import java.util.Map;
+import java.util.UUID;
 
-@Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtProvider {
 
-    @Value("${jwt.secret.key}")
-    private String secretKey;
-
     private static final long ACCESS_TOKEN_EXPIRATION_TIME = 1000L * 60 * 60 * 24 * 7;
     public static final long REFRESH_TOKEN_EXPIRATION_TIME = 1000L * 60 * 60 * 24 * 30;
     public static final String TOKEN_PREFIX = "Bearer ";
     public static final String AUTHENTICATION_HEADER_PREFIX = "Authorization";
     public static final String COOKIE_VALUE_PREFIX = "refresh_token";
+    private static final String BASE64_URL_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
 
-    private Key key;
-
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private final JwtKeyRing jwtKeyRing;
+    private final HmacJwtFastVerifier hmacJwtFastVerifier;
+    private final HmacJwtSigner hmacJwtSigner;
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
-        byte[] decode = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(decode);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    // jjwt 0.11.5 의 SigningKeyResolver 가 raw JwsHeader 로 선언되어 있어 재정의 시그니처는 타입 인자를 가질 수 없다.
+                    @Override
+                    @SuppressWarnings("rawtypes")
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveVerificationKey(header);
+                    }
+                })
+                .build();
+    }
+
+    private Key resolveVerificationKey(JwsHeader<?> header) {
+        return jwtKeyRing.resolveVerificationKey(header.getKeyId(), header.getAlgorithm());
     }
 
     public String generateAccessToken(Authentication authentication) {
-        return TOKEN_PREFIX + Jwts.builder()
-                .setSubject(authentication.getName())
-                .claim("Role", authentication.getAuthorities())
-                .setExpiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION_TIME))
-                .signWith(key, signatureAlgorithm)
-                .compact();
+        return generateToken(authentication, ACCESS_TOKEN_EXPIRATION_TIME);
+    }
+
+    public VerifiedToken verifyBearer(String tokenValue) {
+        int start = tokenValue.startsWith(TOKEN_PREFIX) ? TOKEN_PREFIX.length() : 0;
+        VerifiedToken verifiedToken = hmacJwtFastVerifier.verify(tokenValue, start);
+        if (verifiedToken != null) {
+            return verifiedToken;
+        }
+        return verify(tokenValue.substring(start));
+    }
+
+    public VerifiedToken verify(String token) {
+        Claims claims = parse(token).getBody();
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(toAuthUser(claims), claims.getId(), expiration != null ? expiration.getTime() : Long.MAX_VALUE);
     }
 
     public void validateToken(String token) {
+        parse(token);
+    }
+
+    public AuthUser getAuthUserForToken(String token) {
+        return toAuthUser(parse(token).getBody());
+    }
+
+    private Jws<Claims> parse(String token) {
+        if (!hasCanonicalSignature(token)) {
+            throw SecurityFilterChainException.of(ErrorCode.INVALID_JWT_SIGNATURE);
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            return jwtParser.parseClaimsJws(token);
         } catch (SecurityException | MalformedJwtException e) {
-            log.warn("유효하지 않는 JWT 서명입니다.");
-            throw new SecurityFilterChainException(ErrorCode.INVALID_JWT_SIGNATURE, e);
+            throw SecurityFilterChainException.of(ErrorCode.INVALID_JWT_SIGNATURE);
         } catch (UnsupportedJwtException e) {
-            log.warn("지원되지 않는 JWT 토큰입니다.");
-            throw new SecurityFilterChainException(ErrorCode.UNSUPPORTED_JWT_TOKEN, e);
+            throw SecurityFilterChainException.of(ErrorCode.UNSUPPORTED_JWT_TOKEN);
         } catch (IllegalArgumentException e) {
-            log.warn("잘못된 JWT 토큰입니다.");
-            throw new SecurityFilterChainException(ErrorCode.INVALID_JWT_TOKEN, e);
+            throw SecurityFilterChainException.of(ErrorCode.INVALID_JWT_TOKEN);
         } catch (ExpiredJwtException e) {
-            log.info("만료된 JWT token 입니다.");
-            throw new SecurityFilterChainException(ErrorCode.EXPIRED_JWT_TOKEN, e);
+            throw SecurityFilterChainException.of(ErrorCode.EXPIRED_JWT_TOKEN);
         }
     }
 
-    public AuthUser getAuthUserForToken(String token) {
-        Jws<Claims> claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-
-        String nickname = claims.getBody().getSubject();
-        List<?> roles = claims.getBody().get("Role", List.class);
-        List<Role> authorities = roles.stream()
-                .map(role -> {
-                    Map<String, String> roleMap = (Map<String, String>) role;
-                    String authority = roleMap.get("authority");
-                    return Role.valueOf(authority.replace("ROLE_", ""));
-                })
-                .toList();
+    private static boolean hasCanonicalSignature(String token) {
+        int start = token.lastIndexOf('.') + 1;
+        int length = token.length() - start;
+        int leftoverBits = length * 6 % 8;
+        if (length == 0 || leftoverBits == 0) {
+            return true;
+        }
+        int sextet = BASE64_URL_ALPHABET.indexOf(token.charAt(token.length() - 1));
+        return sextet >= 0 && (sextet & ((1 << leftoverBits) - 1)) == 0;
+    }
 
-        return new AuthUser(nickname, authorities);
+    private AuthUser toAuthUser(Claims claims) {
+        return new AuthUser(claims.getSubject(), RoleClaim.decode(claims.get(RoleClaim.NAME)));
     }
 
     public String generateRefreshToken(Authentication authentication) {
+        return generateToken(authentication, REFRESH_TOKEN_EXPIRATION_TIME);
+    }
+
+    private String generateToken(Authentication authentication, long expirationTime) {
+        JwtSigningKey signingKey = jwtKeyRing.getActiveKey();
+        int roleMask = RoleClaim.encode(authentication.getAuthorities());
+        long expiresAt = System.currentTimeMillis() + expirationTime;
+        String jti = UUID.randomUUID().toString();
+        if (hmacJwtSigner.supports(signingKey)) {
+            return TOKEN_PREFIX + hmacJwtSigner.sign(jti, authentication.getName(), roleMask, expiresAt);
+        }
+
         return TOKEN_PREFIX + Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .setId(jti)
                 .setSubject(authentication.getName())
-                .claim("Role", authentication.getAuthorities())
-                .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION_TIME))
-                .signWith(key, signatureAlgorithm)
+                .claim(RoleClaim.NAME, roleMask)
+                .setExpiration(new Date(expiresAt))
+                .signWith(signingKey.getSigningKey(), signingKey.getAlgorithm())
                 .compact();
     }
 }
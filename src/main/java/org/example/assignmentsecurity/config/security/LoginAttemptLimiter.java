@@ -0,0 +1,65 @@
+package org.example.assignmentsecurity.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoginAttemptLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter nicknameLimiter;
+    private final Counter ipThrottled;
+    private final Counter nicknameThrottled;
+
+    public LoginAttemptLimiter(
+            @Value("${security.login.rate-limit.enabled:true}") boolean enabled,
+            @Value("${security.login.rate-limit.ip.capacity:20}") int ipCapacity,
+            @Value("${security.login.rate-limit.ip.refill-per-minute:60}") int ipRefillPerMinute,
+            @Value("${security.login.rate-limit.nickname.capacity:5}") int nicknameCapacity,
+            @Value("${security.login.rate-limit.nickname.refill-per-minute:5}") int nicknameRefillPerMinute,
+            @Value("${security.login.rate-limit.idle-seconds:600}") long idleSeconds,
+            @Value("${security.login.rate-limit.max-entries:100000}") int maxEntries,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.ipLimiter = new TokenBucketLimiter(ipCapacity, ipRefillPerMinute, idleSeconds, maxEntries);
+        this.nicknameLimiter = new TokenBucketLimiter(nicknameCapacity, nicknameRefillPerMinute, idleSeconds, maxEntries);
+
+        this.ipThrottled = Counter.builder("security.login.throttled")
+                .tag("key", "ip")
+                .register(meterRegistry);
+        this.nicknameThrottled = Counter.builder("security.login.throttled")
+                .tag("key", "nickname")
+                .register(meterRegistry);
+        Gauge.builder("security.login.rate-limit.entries", this, limiter -> limiter.ipLimiter.size() + limiter.nicknameLimiter.size())
+                .register(meterRegistry);
+    }
+
+    public void checkRemoteAddress(String remoteAddress) {
+        if (enabled && remoteAddress != null && !ipLimiter.tryAcquire(remoteAddress, System.nanoTime())) {
+            ipThrottled.increment();
+            throw SecurityFilterChainException.of(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    public void checkNickname(String nickname) {
+        if (enabled && nickname != null && !nicknameLimiter.tryAcquire(nickname, System.nanoTime())) {
+            nicknameThrottled.increment();
+            throw SecurityFilterChainException.of(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.login.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        ipLimiter.evictIdle(now);
+        nicknameLimiter.evictIdle(now);
+    }
+}
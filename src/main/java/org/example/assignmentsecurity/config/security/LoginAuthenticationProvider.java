@@ -3,33 +3,61 @@ package org.example.assignmentsecurity.config.security;
 import lombok.RequiredArgsConstructor;
 import org.example.assignmentsecurity.common.error.ErrorCode;
 import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
+import org.example.assignmentsecurity.domain.user.NicknameBloomFilter;
 import org.example.assignmentsecurity.domain.user.User;
 import org.example.assignmentsecurity.domain.user.UserRepository;
+import org.example.assignmentsecurity.service.PasswordRehashService;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Component
 @RequiredArgsConstructor
 public class LoginAuthenticationProvider implements AuthenticationProvider {
 
     private final UserRepository userRepository;
+    private final NicknameBloomFilter nicknameBloomFilter;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordRehashService passwordRehashService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
-        LoginAuthentication loginAuthentication = (LoginAuthentication) authentication;
-        String nickname = authentication.getName();
+        String password = (String) authentication.getCredentials();
+        User user = findUser(authentication.getName());
+        return authenticated(user, password, passwordEncoder.matches(password, user.getPassword()));
+    }
+
+    public CompletableFuture<Authentication> authenticateAsync(LoginAuthentication loginAuthentication) {
         String password = (String) loginAuthentication.getCredentials();
+        User user;
+        try {
+            user = findUser(loginAuthentication.getName());
+        } catch (SecurityFilterChainException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return passwordHashingExecutor.submit(() -> passwordEncoder.matches(password, user.getPassword()))
+                .thenApply(matched -> authenticated(user, password, matched));
+    }
 
-        User user = userRepository.findByNickname(nickname)
-                .orElseThrow(() -> new SecurityFilterChainException(ErrorCode.USER_NOT_FOUND));
+    private User findUser(String nickname) {
+        // 필터는 최초 적재 전에는 항상 true 를 반환하므로 그 동안은 DB 조회로 판단한다.
+        if (!nicknameBloomFilter.mightContain(nickname)) {
+            throw SecurityFilterChainException.of(ErrorCode.USER_NOT_FOUND);
+        }
+        return userRepository.findByNickname(nickname)
+                .orElseThrow(() -> SecurityFilterChainException.of(ErrorCode.USER_NOT_FOUND));
+    }
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new SecurityFilterChainException(ErrorCode.MISS_MATCH_PASSWORD);
+    private Authentication authenticated(User user, String password, boolean matched) {
+        if (!matched) {
+            throw SecurityFilterChainException.of(ErrorCode.MISS_MATCH_PASSWORD);
         }
+        passwordRehashService.rehashIfNeeded(user, password);
 
         return new LoginAuthentication(AuthUser.of(user));
     }
@@ -0,0 +1,79 @@
+package org.example.assignmentsecurity.config.security;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Getter
+@Component
+public class PasswordHashingPolicy {
+
+    public static final String ENCODING_ID = "bcrypt";
+
+    private static final String ENCODING_PREFIX = "{" + ENCODING_ID + "}";
+    private static final int MAX_COST = 31;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int cost;
+    private final PasswordEncoder passwordEncoder;
+
+    public PasswordHashingPolicy(
+            @Value("${security.password.bcrypt.cost:0}") int fixedCost,
+            @Value("${security.password.bcrypt.target-latency-ms:250}") long targetLatencyMillis,
+            @Value("${security.password.bcrypt.min-cost:10}") int minCost
+    ) {
+        this.cost = fixedCost > 0 ? fixedCost : calibrate(TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis), minCost);
+        log.info("BCrypt cost 설정 : cost={}, calibrated={}", cost, fixedCost <= 0);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(ENCODING_ID, Map.of(ENCODING_ID, bcrypt));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        this.passwordEncoder = delegatingPasswordEncoder;
+    }
+
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        if (!encodedPassword.startsWith(ENCODING_PREFIX)) {
+            return true;
+        }
+
+        int offset = ENCODING_PREFIX.length();
+        if (encodedPassword.length() < offset + 7
+                || encodedPassword.charAt(offset) != '$'
+                || encodedPassword.charAt(offset + 3) != '$'
+                || encodedPassword.charAt(offset + 6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword, offset + 4, offset + 6, 10) != cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static int calibrate(long targetLatencyNanos, int minCost) {
+        new BCryptPasswordEncoder(minCost).encode(CALIBRATION_PASSWORD);
+
+        int selected = minCost;
+        for (int candidate = minCost; candidate <= MAX_COST; candidate++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(candidate);
+            long startedAt = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            if (System.nanoTime() - startedAt > targetLatencyNanos) {
+                break;
+            }
+            selected = candidate;
+        }
+        return selected;
+    }
+}
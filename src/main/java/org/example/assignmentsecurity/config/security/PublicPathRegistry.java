@@ -0,0 +1,89 @@
+package org.example.assignmentsecurity.config.security;
+
+public final class PublicPathRegistry {
+
+    private static final String PREFIX_WILDCARD = "/**";
+
+    private static final String[] PATTERNS = {
+            "/auth/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/swagger-resources/**",
+            "/v3/api-docs/**",
+            "/webjars/**",
+            "/favicon.ico",
+            "/error"
+    };
+
+    private static final Node ROOT = compile(PATTERNS);
+
+    private PublicPathRegistry() {
+    }
+
+    public static String[] patterns() {
+        return PATTERNS.clone();
+    }
+
+    public static boolean isPublic(String requestUri) {
+        Node node = ROOT;
+        int length = requestUri.length();
+        for (int i = 0; i < length; i++) {
+            char c = requestUri.charAt(i);
+            if (node.prefix && c == '/') {
+                return true;
+            }
+            if (c >= Node.WIDTH || node.children == null) {
+                return false;
+            }
+            node = node.children[c];
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.exact || node.prefix;
+    }
+
+    private static Node compile(String[] patterns) {
+        Node root = new Node();
+        for (String pattern : patterns) {
+            boolean prefix = pattern.endsWith(PREFIX_WILDCARD);
+            String path = prefix ? pattern.substring(0, pattern.length() - PREFIX_WILDCARD.length()) : pattern;
+            if (path.indexOf('*') >= 0) {
+                throw new IllegalArgumentException("지원하지 않는 경로 패턴입니다. : " + pattern);
+            }
+
+            Node node = root;
+            for (int i = 0; i < path.length(); i++) {
+                node = node.child(path.charAt(i));
+            }
+            if (prefix) {
+                node.prefix = true;
+            } else {
+                node.exact = true;
+            }
+        }
+        return root;
+    }
+
+    private static final class Node {
+
+        private static final int WIDTH = 128;
+
+        private Node[] children;
+        private boolean exact;
+        private boolean prefix;
+
+        private Node child(char c) {
+            if (c >= WIDTH) {
+                throw new IllegalArgumentException("경로 패턴은 ASCII 문자만 사용할 수 있습니다.");
+            }
+            if (children == null) {
+                children = new Node[WIDTH];
+            }
+            if (children[c] == null) {
+                children[c] = new Node();
+            }
+            return children[c];
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.assignmentsecurity.config.security;
+
+import org.example.assignmentsecurity.domain.user.Role;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public final class RoleClaim {
+
+    public static final String NAME = "Role";
+
+    private RoleClaim() {
+    }
+
+    public static int encode(Collection<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            mask |= Role.fromAuthorityName(authority.getAuthority()).getMask();
+        }
+        return mask;
+    }
+
+    public static List<Role> decode(Object claim) {
+        if (claim instanceof Number mask) {
+            return Role.fromMask(mask.intValue());
+        }
+        if (claim instanceof List<?> legacyRoles) {
+            return legacyRoles.stream()
+                    .map(role -> {
+                        Object authority = role instanceof Map<?, ?> roleMap ? roleMap.get("authority") : role;
+                        return Role.fromAuthorityName(String.valueOf(authority));
+                    })
+                    .toList();
+        }
+        throw new IllegalArgumentException("권한 정보를 읽을 수 없습니다.");
+    }
+}
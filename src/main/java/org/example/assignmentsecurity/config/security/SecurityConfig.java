@@ -3,12 +3,17 @@ package org.example.assignmentsecurity.config.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.example.assignmentsecurity.common.format.ErrorResponseBodies;
+import org.example.assignmentsecurity.config.security.event.SecurityEventPublisher;
 import org.example.assignmentsecurity.config.security.filter.GlobalFilterExceptionHandler;
-import org.example.assignmentsecurity.config.security.filter.JwtAuthorizationFilter;
-import org.example.assignmentsecurity.config.security.filter.JwtRefreshFilter;
-import org.example.assignmentsecurity.config.security.filter.LoginAuthenticationFilter;
-import org.example.assignmentsecurity.domain.token.RefreshTokenRepository;
-import org.example.assignmentsecurity.domain.user.UserRepository;
+import org.example.assignmentsecurity.config.security.filter.JwtAuthorizationHandler;
+import org.example.assignmentsecurity.config.security.filter.JwtRefreshHandler;
+import org.example.assignmentsecurity.config.security.filter.LoginAuthenticationHandler;
+import org.example.assignmentsecurity.config.security.filter.SecurityDispatchFilter;
+import org.example.assignmentsecurity.domain.token.RefreshTokenStore;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.example.assignmentsecurity.service.RoleSnapshotService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -21,12 +26,9 @@ import org.springframework.security.config.annotation.web.configuration.WebSecur
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
-import org.springframework.security.web.context.SecurityContextHolderFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -38,31 +40,37 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String INTROSPECTION_PATH = "/auth/introspect";
+    private static final String REVOCATION_PATH = "/auth/revoke";
+
     private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final SecurityEventPublisher securityEventPublisher;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final PasswordHashingPolicy passwordHashingPolicy;
     private final ObjectMapper objectMapper;
-    private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final AuthenticationConfiguration authenticationConfiguration;
+    private final ErrorResponseBodies errorResponseBodies;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RoleSnapshotService roleSnapshotService;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return passwordHashingPolicy.getPasswordEncoder();
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            LoginAuthenticationProvider loginAuthenticationProvider,
+            @Value("${security.login.async-timeout-ms:10000}") long loginAsyncTimeoutMillis
+    ) throws Exception {
         http
                 .authorizeHttpRequests(auth -> auth
                         .dispatcherTypeMatchers(DispatcherType.ERROR, DispatcherType.FORWARD).permitAll()
-                        .requestMatchers("/auth/**").permitAll()
-                        .requestMatchers("/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/swagger-resources/**",
-                                "/v3/api-docs/**",
-                                "/webjars/**",
-                                "/favicon.ico",
-                                "/error"
-                        ).permitAll()
+                        .requestMatchers(INTROSPECTION_PATH).hasRole(Role.ADMIN.name())
+                        .requestMatchers(REVOCATION_PATH).authenticated()
+                        .requestMatchers(PublicPathRegistry.patterns()).permitAll()
                         .requestMatchers(PathRequest.toH2Console()).permitAll()
                         .anyRequest().authenticated()
                 )
@@ -72,21 +80,35 @@ public class SecurityConfig {
                 .anonymous(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .addFilterBefore(new GlobalFilterExceptionHandler(objectMapper), SecurityContextHolderFilter.class)
-                .addFilterBefore(new JwtRefreshFilter(refreshTokenRepository, objectMapper, jwtProvider), UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new JwtAuthorizationFilter(jwtProvider), BasicAuthenticationFilter.class)
-                .addFilterBefore(
-                        new LoginAuthenticationFilter(
-                                authenticationManager(authenticationConfiguration),
-                                jwtProvider,
-                                objectMapper, userRepository,
-                                refreshTokenRepository
-                        ), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(securityDispatchFilter(loginAuthenticationProvider, loginAsyncTimeoutMillis), UsernamePasswordAuthenticationFilter.class)
         ;
 
         return http.build();
     }
 
+    private SecurityDispatchFilter securityDispatchFilter(
+            LoginAuthenticationProvider loginAuthenticationProvider,
+            long loginAsyncTimeoutMillis
+    ) {
+        GlobalFilterExceptionHandler globalFilterExceptionHandler = new GlobalFilterExceptionHandler(errorResponseBodies, securityEventPublisher);
+        return new SecurityDispatchFilter(
+                globalFilterExceptionHandler,
+                new LoginAuthenticationHandler(
+                        loginAuthenticationProvider,
+                        loginAttemptLimiter,
+                        globalFilterExceptionHandler,
+                        jwtProvider,
+                        objectMapper,
+                        errorResponseBodies,
+                        refreshTokenStore,
+                        securityEventPublisher,
+                        loginAsyncTimeoutMillis
+                ),
+                new JwtRefreshHandler(refreshTokenStore, roleSnapshotService, objectMapper, jwtProvider, securityEventPublisher),
+                new JwtAuthorizationHandler(jwtProvider, verifiedTokenCache, tokenRevocationList)
+        );
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(
             AuthenticationConfiguration authenticationConfiguration
@@ -0,0 +1,83 @@
+package org.example.assignmentsecurity.config.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucketLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final long idleNanos;
+    private final int maxEntries;
+    private final int evictionBatch;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public TokenBucketLimiter(int capacity, int refillPerMinute, long idleSeconds, int maxEntries) {
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, refillPerMinute);
+        this.burstToleranceNanos = emissionIntervalNanos * (Math.max(1, capacity) - 1);
+        this.idleNanos = TimeUnit.SECONDS.toNanos(idleSeconds);
+        this.maxEntries = maxEntries;
+        this.evictionBatch = Math.max(1, maxEntries / 100);
+    }
+
+    public boolean tryAcquire(String key, long nowNanos) {
+        return tryAcquire(key, 1, nowNanos);
+    }
+
+    public boolean tryAcquire(String key, int permits, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxEntries) {
+                evictWhenFull(nowNanos);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        }
+
+        long increment = emissionIntervalNanos * Math.max(1, permits);
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long base = Math.max(theoreticalArrival, nowNanos);
+            if (base + increment - emissionIntervalNanos - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, base + increment)) {
+                return true;
+            }
+        }
+    }
+
+    public int evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() + idleNanos <= nowNanos);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    // 가득 찼을 때 새 키를 거절하면 모든 사용자가 잠기므로, 다시 채워진 버킷을 먼저 비우고
+    // 그래도 부족하면 가장 먼저 다시 채워질 버킷부터 한 묶음씩 비운다.
+    private void evictWhenFull(long nowNanos) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.get() <= nowNanos);
+            int excess = buckets.size() - (maxEntries - evictionBatch);
+            if (excess <= 0) {
+                return;
+            }
+            long[] arrivals = buckets.values().stream().mapToLong(AtomicLong::get).sorted().toArray();
+            if (arrivals.length > 0) {
+                long threshold = arrivals[Math.min(excess, arrivals.length) - 1];
+                buckets.values().removeIf(bucket -> bucket.get() <= threshold);
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
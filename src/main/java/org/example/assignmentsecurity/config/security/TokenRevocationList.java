@@ -0,0 +1,90 @@
+package org.example.assignmentsecurity.config.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.assignmentsecurity.common.util.BloomBits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class TokenRevocationList {
+
+    private final int expectedInsertions;
+    private final double targetFalsePositiveRate;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomBits current;
+    private volatile long watermark;
+
+    public TokenRevocationList(
+            @Value("${security.token-revocation.expected-insertions:10000}") int expectedInsertions,
+            @Value("${security.token-revocation.false-positive-rate:0.001}") double targetFalsePositiveRate,
+            MeterRegistry meterRegistry
+    ) {
+        this.expectedInsertions = expectedInsertions;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+        this.current = new BloomBits(expectedInsertions, targetFalsePositiveRate);
+
+        Gauge.builder("security.token.revocation.size", revoked, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("security.token.revocation.fpp", this, TokenRevocationList::getFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("security.token.revocation.watermark", this, TokenRevocationList::getWatermark)
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(String jti) {
+        return jti != null && current.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    public synchronized void add(String jti, long expiresAt) {
+        if (revoked.putIfAbsent(jti, expiresAt) == null) {
+            current.put(jti);
+        }
+    }
+
+    public synchronized void advanceWatermark(long id) {
+        if (id > watermark) {
+            watermark = id;
+        }
+    }
+
+    public synchronized int prune(long now) {
+        int removed = 0;
+        Iterator<Long> expiries = revoked.values().iterator();
+        while (expiries.hasNext()) {
+            if (expiries.next() <= now) {
+                expiries.remove();
+                removed++;
+            }
+        }
+        if (removed > 0 || getFalsePositiveRate() > targetFalsePositiveRate * 2) {
+            rebuild();
+        }
+        return removed;
+    }
+
+    private void rebuild() {
+        BloomBits next = new BloomBits(Math.max(expectedInsertions, revoked.size() * 2L), targetFalsePositiveRate);
+        for (String jti : revoked.keySet()) {
+            next.put(jti);
+        }
+        current = next;
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    public double getFalsePositiveRate() {
+        return current.falsePositiveRate();
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.assignmentsecurity.config.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    private final AuthUser authUser;
+    private final String jti;
+    private final long expiresAt;
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.assignmentsecurity.config.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.assignmentsecurity.common.util.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@Component
+public class VerifiedTokenCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.enabled:false}") boolean enabled,
+            @Value("${jwt.cache.max-size:10000}") int maxSize,
+            @Value("${jwt.cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+        int segmentSize = Math.max(1, maxSize / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+
+        FunctionCounter.builder("jwt.token.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.token.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.token.cache.size", this, VerifiedTokenCache::size)
+                .register(meterRegistry);
+    }
+
+    public VerifiedToken get(String token, Function<String, VerifiedToken> loader) {
+        if (!enabled) {
+            return loader.apply(token);
+        }
+
+        long now = System.currentTimeMillis();
+        ByteBuffer digest = ByteBuffer.wrap(TokenDigest.sha256(token));
+        CacheKey key = new CacheKey(digest.getLong(0), digest.getLong(8));
+        Segment segment = segments[(int) (key.high() & (SEGMENT_COUNT - 1))];
+
+        Entry entry = segment.get(key);
+        if (entry != null) {
+            if (now < entry.cachedUntil()) {
+                hits.increment();
+                return entry.verifiedToken();
+            }
+            segment.remove(key);
+        }
+
+        misses.increment();
+        VerifiedToken verifiedToken = loader.apply(token);
+        long cachedUntil = Math.min(now + ttlMillis, verifiedToken.getExpiresAt());
+        if (cachedUntil > now) {
+            segment.put(key, new Entry(verifiedToken, cachedUntil));
+        }
+        return verifiedToken;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private record CacheKey(long high, long low) {
+    }
+
+    private record Entry(VerifiedToken verifiedToken, long cachedUntil) {
+    }
+
+    private static final class Segment {
+
+        private final LinkedHashMap<CacheKey, Entry> entries;
+
+        private Segment(int maxSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CacheKey, Entry> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        synchronized Entry get(CacheKey key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(CacheKey key, Entry entry) {
+            entries.put(key, entry);
+        }
+
+        synchronized void remove(CacheKey key) {
+            entries.remove(key);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.assignmentsecurity.config.security.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+
+@Getter
+@RequiredArgsConstructor
+public class SecurityEvent {
+
+    private final SecurityEventType type;
+    private final long timestamp;
+    private final String requestUri;
+    private final String remoteAddress;
+    private final String subject;
+    private final String credential;
+    private final ErrorCode errorCode;
+}
@@ -0,0 +1,161 @@
+package org.example.assignmentsecurity.config.security.event;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.util.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class SecurityEventPublisher {
+
+    private static final int FINGERPRINT_BYTES = 6;
+
+    private final BlockingQueue<SecurityEvent> queue;
+    private final int samplesPerSecond;
+    private final Sampler[] samplers = new Sampler[SecurityEventType.values().length];
+    private final LongAdder published = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    public SecurityEventPublisher(
+            @Value("${security.event.queue-capacity:8192}") int queueCapacity,
+            @Value("${security.event.samples-per-second:100}") int samplesPerSecond,
+            MeterRegistry meterRegistry
+    ) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.samplesPerSecond = samplesPerSecond;
+        for (int i = 0; i < samplers.length; i++) {
+            samplers[i] = new Sampler();
+        }
+        this.drainer = new Thread(this::drain, "security-event-drainer");
+        this.drainer.setDaemon(true);
+
+        FunctionCounter.builder("security.events", published, LongAdder::sum)
+                .tag("result", "published")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.events", sampledOut, LongAdder::sum)
+                .tag("result", "sampled")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.events", dropped, LongAdder::sum)
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        Gauge.builder("security.events.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        drainer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        drainer.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    public void publish(SecurityEventType type, HttpServletRequest request, String subject) {
+        publish(type, request, subject, null, null);
+    }
+
+    public void publish(
+            SecurityEventType type,
+            HttpServletRequest request,
+            String subject,
+            String credential,
+            ErrorCode errorCode
+    ) {
+        long now = System.currentTimeMillis();
+        if (samplesPerSecond > 0 && !samplers[type.ordinal()].tryAcquire(now / 1000, samplesPerSecond)) {
+            sampledOut.increment();
+            return;
+        }
+
+        SecurityEvent event = new SecurityEvent(
+                type, now, request.getRequestURI(), request.getRemoteAddr(), subject, credential, errorCode);
+        if (queue.offer(event)) {
+            published.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getSampledOutCount() {
+        return sampledOut.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public static String redact(String credential) {
+        if (credential == null || credential.isEmpty()) {
+            return null;
+        }
+        return "sha256:" + HexFormat.of().formatHex(TokenDigest.sha256(credential), 0, FINGERPRINT_BYTES);
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                SecurityEvent event = queue.poll(1, TimeUnit.SECONDS);
+                if (event != null) {
+                    write(event);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("보안 이벤트 기록 중 오류 발생 : {}", e.getMessage());
+            }
+        }
+    }
+
+    private void write(SecurityEvent event) {
+        log.info("security_event type={} time={} uri={} remote={} subject={} credential={} error={}",
+                event.getType(),
+                Instant.ofEpochMilli(event.getTimestamp()),
+                event.getRequestUri(),
+                event.getRemoteAddress(),
+                event.getSubject(),
+                redact(event.getCredential()),
+                event.getErrorCode());
+    }
+
+    private static final class Sampler {
+
+        private final AtomicLong window = new AtomicLong();
+        private final AtomicInteger count = new AtomicInteger();
+
+        private boolean tryAcquire(long second, int limit) {
+            long current = window.get();
+            if (current != second && window.compareAndSet(current, second)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.assignmentsecurity.config.security.event;
+
+public enum SecurityEventType {
+    LOGIN_SUCCEEDED,
+    LOGIN_FAILED,
+    TOKEN_REFRESHED,
+    REFRESH_REJECTED,
+    TOKEN_REJECTED,
+    REQUEST_REJECTED,
+    FILTER_ERROR
+}
@@ -1,8 +1,5 @@
 package org.example.assignmentsecurity.config.security.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -10,49 +7,52 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.assignmentsecurity.common.error.BusinessException;
 import org.example.assignmentsecurity.common.error.ErrorCode;
 import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
-import org.example.assignmentsecurity.common.format.ApiResult;
-import org.springframework.http.MediaType;
-import org.springframework.web.filter.OncePerRequestFilter;
+import org.example.assignmentsecurity.common.format.ErrorResponseBodies;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.event.SecurityEventPublisher;
+import org.example.assignmentsecurity.config.security.event.SecurityEventType;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 @Slf4j
 @RequiredArgsConstructor
-public class GlobalFilterExceptionHandler extends OncePerRequestFilter {
+public class GlobalFilterExceptionHandler {
 
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseBodies errorResponseBodies;
+    private final SecurityEventPublisher securityEventPublisher;
 
-    @Override
-    protected void doFilterInternal(
+    public void handle(
             HttpServletRequest request,
             HttpServletResponse response,
-            FilterChain filterChain
-    ) throws ServletException, IOException {
-        try {
-            filterChain.doFilter(request, response);
-        } catch (SecurityFilterChainException ex) {
-            if (!response.isCommitted()) {
-                log.info("SecurityFilterChainException 오류 발생 : {}", ex.getMessage());
-                errorResponse(response, ex.getErrorCode());
-            }
-        } catch (BusinessException ex) {
-            if (!response.isCommitted()) {
-                log.info("BusinessException 오류 발생 : {}", ex.getMessage());
-                errorResponse(response, ex.getErrorCode());
-            }
-        } catch (Exception ex) {
-            if (!response.isCommitted()) {
-                log.info("Exception 발생 : {}", ex.getMessage());
-                errorResponse(response, ErrorCode.SERVER_ERROR);
-            }
+            SecurityRoute route,
+            Exception ex
+    ) throws IOException {
+        boolean unexpected = !(ex instanceof SecurityFilterChainException) && !(ex instanceof BusinessException);
+        if (unexpected) {
+            log.error("필터 처리 중 예기치 않은 오류 발생 : {} {}", request.getMethod(), request.getRequestURI(), ex);
+        }
+        if (response.isCommitted()) {
+            return;
+        }
+
+        if (ex instanceof SecurityFilterChainException securityException) {
+            securityEventPublisher.publish(rejectionType(route), request, null,
+                    request.getHeader(JwtProvider.AUTHENTICATION_HEADER_PREFIX), securityException.getErrorCode());
+            errorResponseBodies.write(response, securityException.getErrorCode());
+        } else if (ex instanceof BusinessException businessException) {
+            securityEventPublisher.publish(SecurityEventType.REQUEST_REJECTED, request, null, null, businessException.getErrorCode());
+            errorResponseBodies.write(response, businessException.getErrorCode());
+        } else {
+            securityEventPublisher.publish(SecurityEventType.FILTER_ERROR, request, ex.getClass().getSimpleName(), null, ErrorCode.SERVER_ERROR);
+            errorResponseBodies.write(response, ErrorCode.SERVER_ERROR);
         }
     }
 
-    private void errorResponse(HttpServletResponse response, ErrorCode ex) throws IOException {
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setStatus(ex.getStatus());
-        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
-        response.getWriter().write(objectMapper.writeValueAsString(ApiResult.error(ex)));
+    private SecurityEventType rejectionType(SecurityRoute route) {
+        return switch (route) {
+            case LOGIN -> SecurityEventType.LOGIN_FAILED;
+            case REFRESH -> SecurityEventType.REFRESH_REJECTED;
+            default -> SecurityEventType.TOKEN_REJECTED;
+        };
     }
 }
@@ -0,0 +1,46 @@
+package org.example.assignmentsecurity.config.security.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.LoginAuthentication;
+import org.example.assignmentsecurity.config.security.TokenRevocationList;
+import org.example.assignmentsecurity.config.security.VerifiedToken;
+import org.example.assignmentsecurity.config.security.VerifiedTokenCache;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class JwtAuthorizationHandler implements SecurityRouteHandler {
+
+    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Override
+    public void handle(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String tokenValue = request.getHeader(JwtProvider.AUTHENTICATION_HEADER_PREFIX);
+        if (tokenValue == null) {
+            throw SecurityFilterChainException.of(ErrorCode.TOKEN_NOT_FOUND);
+        }
+
+        VerifiedToken verifiedToken = verifiedTokenCache.get(tokenValue, jwtProvider::verifyBearer);
+        if (tokenRevocationList.isRevoked(verifiedToken.getJti())) {
+            throw SecurityFilterChainException.of(ErrorCode.REVOKED_JWT_TOKEN);
+        }
+
+        LoginAuthentication loginAuthentication = new LoginAuthentication(verifiedToken.getAuthUser());
+        SecurityContextHolder.getContext().setAuthentication(loginAuthentication);
+        filterChain.doFilter(request, response);
+    }
+}
@@ -2,7 +2,6 @@ package org.example.assignmentsecurity.config.security.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -10,15 +9,18 @@ import lombok.RequiredArgsConstructor;
 import org.example.assignmentsecurity.common.error.ErrorCode;
 import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
 import org.example.assignmentsecurity.common.format.ApiResult;
+import org.example.assignmentsecurity.common.util.TokenDigest;
 import org.example.assignmentsecurity.config.security.AuthUser;
 import org.example.assignmentsecurity.config.security.JwtProvider;
 import org.example.assignmentsecurity.config.security.LoginAuthentication;
 import org.example.assignmentsecurity.config.security.dto.RefreshJwtRespDto;
-import org.example.assignmentsecurity.domain.token.RefreshToken;
-import org.example.assignmentsecurity.domain.token.RefreshTokenRepository;
+import org.example.assignmentsecurity.config.security.event.SecurityEventPublisher;
+import org.example.assignmentsecurity.config.security.event.SecurityEventType;
+import org.example.assignmentsecurity.domain.token.RefreshSession;
+import org.example.assignmentsecurity.domain.token.RefreshTokenStore;
+import org.example.assignmentsecurity.service.RoleSnapshotService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -26,36 +28,38 @@ import java.util.Arrays;
 import java.util.Optional;
 
 @RequiredArgsConstructor
-public class JwtRefreshFilter extends OncePerRequestFilter {
+public class JwtRefreshHandler implements SecurityRouteHandler {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RoleSnapshotService roleSnapshotService;
     private final ObjectMapper objectMapper;
     private final JwtProvider jwtProvider;
+    private final SecurityEventPublisher securityEventPublisher;
 
     @Override
-    protected void doFilterInternal(
+    public void handle(
             HttpServletRequest request,
             HttpServletResponse response,
             FilterChain filterChain
-    ) throws ServletException, IOException {
-        if (!request.getRequestURI().equals("/auth/refresh")) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
+    ) throws IOException {
         Cookie[] cookies = request.getCookies();
         String refreshToken = extractCookieFormToken(cookies);
 
-        RefreshToken findToken = refreshTokenRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new SecurityFilterChainException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+        String tokenHash = TokenDigest.sha256Hex(refreshToken);
+        RefreshSession findToken = refreshTokenStore.findByTokenHash(tokenHash)
+                .orElseThrow(() -> SecurityFilterChainException.of(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
 
         if (findToken.isExpired()) {
-            throw new SecurityFilterChainException(ErrorCode.EXPIRED_REFRESH_TOKEN);
+            refreshTokenStore.revoke(tokenHash);
+            throw SecurityFilterChainException.of(ErrorCode.EXPIRED_REFRESH_TOKEN);
         }
 
-        AuthUser authUserForToken = jwtProvider.getAuthUserForToken(findToken.getRefreshToken().replace(JwtProvider.TOKEN_PREFIX, ""));
+        AuthUser authUserForToken = findToken.hasRoleSnapshot()
+                ? roleSnapshotService.toAuthUser(findToken)
+                : jwtProvider.getAuthUserForToken(refreshToken.replace(JwtProvider.TOKEN_PREFIX, ""));
         LoginAuthentication loginAuthentication = new LoginAuthentication(authUserForToken);
         String accessToken = jwtProvider.generateAccessToken(loginAuthentication);
+        securityEventPublisher.publish(SecurityEventType.TOKEN_REFRESHED, request, authUserForToken.getNickname());
 
         successResponse(response, accessToken);
     }
@@ -77,6 +81,6 @@ public class JwtRefreshFilter extends OncePerRequestFilter {
                         .map(Cookie::getValue)
                         .map(token -> token.replace("%20", " "))
                 )
-                .orElseThrow(() -> new SecurityFilterChainException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+                .orElseThrow(() -> SecurityFilterChainException.of(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
     }
 }
@@ -0,0 +1,195 @@
+package org.example.assignmentsecurity.config.security.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.assignmentsecurity.common.error.BusinessException;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
+import org.example.assignmentsecurity.common.format.ApiResult;
+import org.example.assignmentsecurity.common.format.ErrorResponseBodies;
+import org.example.assignmentsecurity.common.util.TokenDigest;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.LoginAttemptLimiter;
+import org.example.assignmentsecurity.config.security.LoginAuthentication;
+import org.example.assignmentsecurity.config.security.LoginAuthenticationProvider;
+import org.example.assignmentsecurity.config.security.RoleClaim;
+import org.example.assignmentsecurity.config.security.dto.LoginReqDto;
+import org.example.assignmentsecurity.config.security.dto.LoginRespDto;
+import org.example.assignmentsecurity.config.security.event.SecurityEventPublisher;
+import org.example.assignmentsecurity.config.security.event.SecurityEventType;
+import org.example.assignmentsecurity.domain.token.RefreshSession;
+import org.example.assignmentsecurity.domain.token.RefreshTokenStore;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@RequiredArgsConstructor
+public class LoginAuthenticationHandler implements SecurityRouteHandler {
+
+    private final LoginAuthenticationProvider loginAuthenticationProvider;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final GlobalFilterExceptionHandler globalFilterExceptionHandler;
+    private final JwtProvider jwtProvider;
+    private final ObjectMapper objectMapper;
+    private final ErrorResponseBodies errorResponseBodies;
+    private final RefreshTokenStore refreshTokenStore;
+    private final SecurityEventPublisher securityEventPublisher;
+    private final long asyncTimeoutMillis;
+
+    @Override
+    public void handle(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) {
+        loginAttemptLimiter.checkRemoteAddress(request.getRemoteAddr());
+        LoginReqDto loginReqDto = readLoginRequest(request);
+        loginAttemptLimiter.checkNickname(loginReqDto.getNickname());
+        LoginAuthentication loginAuthentication = new LoginAuthentication(
+                loginReqDto.getNickname(),
+                loginReqDto.getPassword()
+        );
+
+        CompletableFuture<Authentication> authentication = loginAuthenticationProvider.authenticateAsync(loginAuthentication);
+        AsyncContext asyncContext = request.startAsync(request, response);
+        AtomicBoolean finished = new AtomicBoolean();
+        asyncContext.setTimeout(asyncTimeoutMillis);
+        asyncContext.addListener(new LoginTimeoutListener(request, response, authentication, finished));
+        authentication.whenComplete((authResult, failure) -> {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+            try {
+                if (cause == null) {
+                    successfulAuthentication(request, response, authResult);
+                } else if (cause instanceof AuthenticationException) {
+                    unsuccessfulAuthentication(request, response, loginReqDto.getNickname());
+                } else {
+                    writeFailure(request, response, cause);
+                }
+            } catch (Exception ex) {
+                writeFailure(request, response, ex);
+            } finally {
+                asyncContext.complete();
+            }
+        });
+    }
+
+    private LoginReqDto readLoginRequest(HttpServletRequest request) {
+        try {
+            return objectMapper.readValue(request.getInputStream(), LoginReqDto.class);
+        } catch (IOException ex) {
+            throw new SecurityFilterChainException(ErrorCode.JSON_PARSE_ERROR, ex);
+        }
+    }
+
+    private void successfulAuthentication(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Authentication authResult
+    ) throws IOException {
+        AuthUser authUser = (AuthUser) authResult.getPrincipal();
+        String nickname = authUser.getNickname();
+        String accessToken = jwtProvider.generateAccessToken(authResult);
+        String refreshToken = jwtProvider.generateRefreshToken(authResult);
+
+        Instant now = Instant.now();
+        refreshTokenStore.save(new RefreshSession(
+                authUser.getId(),
+                TokenDigest.sha256Hex(refreshToken),
+                nickname,
+                RoleClaim.encode(authUser.getAuthorities()),
+                now,
+                now.plusMillis(JwtProvider.REFRESH_TOKEN_EXPIRATION_TIME)
+        ));
+
+        addCookie(response, refreshToken);
+        securityEventPublisher.publish(SecurityEventType.LOGIN_SUCCEEDED, request, nickname);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(JwtProvider.AUTHENTICATION_HEADER_PREFIX, accessToken);
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResult.success(new LoginRespDto(accessToken))));
+    }
+
+    private void writeFailure(HttpServletRequest request, HttpServletResponse response, Throwable failure) {
+        Exception ex = failure instanceof Exception exception ? exception : new IllegalStateException(failure);
+        try {
+            globalFilterExceptionHandler.handle(request, response, SecurityRoute.LOGIN, ex);
+        } catch (IOException e) {
+            log.debug("로그인 실패 응답 전송 중 오류 발생 : {}", e.getMessage());
+        }
+    }
+
+    private void addCookie(HttpServletResponse response, String refreshToken) {
+        Cookie cookie = new Cookie(JwtProvider.COOKIE_VALUE_PREFIX, refreshToken.replace(" ", "%20"));
+        cookie.setHttpOnly(true);
+        cookie.setPath("/");
+        cookie.setMaxAge((int) (JwtProvider.REFRESH_TOKEN_EXPIRATION_TIME / 1000));
+        response.addCookie(cookie);
+    }
+
+    private void unsuccessfulAuthentication(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String nickname
+    ) throws IOException {
+        securityEventPublisher.publish(SecurityEventType.LOGIN_FAILED, request, nickname, null, ErrorCode.INVALID_CREDENTIALS);
+        errorResponseBodies.write(response, ErrorCode.INVALID_CREDENTIALS);
+    }
+
+    @RequiredArgsConstructor
+    private class LoginTimeoutListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final CompletableFuture<Authentication> authentication;
+        private final AtomicBoolean finished;
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            authentication.cancel(false);
+            log.warn("로그인 처리 시간이 초과되었습니다. : timeout={}ms", asyncTimeoutMillis);
+            try {
+                writeFailure(request, response, BusinessException.of(ErrorCode.SERVER_BUSY));
+            } finally {
+                event.getAsyncContext().complete();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            finished.set(true);
+            authentication.cancel(false);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.assignmentsecurity.config.security.filter;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+public class SecurityDispatchFilter implements Filter {
+
+    private final GlobalFilterExceptionHandler globalFilterExceptionHandler;
+    private final SecurityRouteHandler[] handlers = new SecurityRouteHandler[SecurityRoute.values().length];
+
+    public SecurityDispatchFilter(
+            GlobalFilterExceptionHandler globalFilterExceptionHandler,
+            LoginAuthenticationHandler loginAuthenticationHandler,
+            JwtRefreshHandler jwtRefreshHandler,
+            JwtAuthorizationHandler jwtAuthorizationHandler
+    ) {
+        this.globalFilterExceptionHandler = globalFilterExceptionHandler;
+        handlers[SecurityRoute.LOGIN.ordinal()] = loginAuthenticationHandler;
+        handlers[SecurityRoute.REFRESH.ordinal()] = jwtRefreshHandler;
+        handlers[SecurityRoute.PUBLIC.ordinal()] = (request, response, filterChain) -> filterChain.doFilter(request, response);
+        handlers[SecurityRoute.PROTECTED.ordinal()] = jwtAuthorizationHandler;
+    }
+
+    @Override
+    public void doFilter(
+            ServletRequest servletRequest,
+            ServletResponse servletResponse,
+            FilterChain filterChain
+    ) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        HttpServletResponse response = (HttpServletResponse) servletResponse;
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SecurityRoute route = SecurityRoute.resolve(request.getMethod(), request.getRequestURI());
+        try {
+            handlers[route.ordinal()].handle(request, response, filterChain);
+        } catch (Exception ex) {
+            globalFilterExceptionHandler.handle(request, response, route, ex);
+        }
+    }
+}
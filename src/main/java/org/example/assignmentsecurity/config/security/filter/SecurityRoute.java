@@ -0,0 +1,34 @@
+package org.example.assignmentsecurity.config.security.filter;
+
+import org.example.assignmentsecurity.config.security.PublicPathRegistry;
+import org.springframework.http.HttpMethod;
+
+import java.util.Map;
+
+public enum SecurityRoute {
+    LOGIN,
+    REFRESH,
+    PUBLIC,
+    PROTECTED;
+
+    private static final Map<String, SecurityRoute> POST_ROUTES = Map.of(
+            "/auth/login", LOGIN,
+            "/auth/refresh", REFRESH
+    );
+
+    private static final Map<String, SecurityRoute> EXACT_ROUTES = Map.of(
+            "/auth/introspect", PROTECTED,
+            "/auth/revoke", PROTECTED
+    );
+
+    public static SecurityRoute resolve(String method, String requestUri) {
+        SecurityRoute route = HttpMethod.POST.matches(method) ? POST_ROUTES.get(requestUri) : null;
+        if (route == null) {
+            route = EXACT_ROUTES.get(requestUri);
+        }
+        if (route != null) {
+            return route;
+        }
+        return PublicPathRegistry.isPublic(requestUri) ? PUBLIC : PROTECTED;
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.assignmentsecurity.config.security.key;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.assignmentsecurity.config.security.key.JwtKeyStore.StoredKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private final String secretKey;
+    private final String secretKeyId;
+    private final SignatureAlgorithm algorithm;
+    private final String ecPrivateKey;
+    private final String ecPublicKey;
+    private final long retiredKeyTtlSeconds;
+    private final long rotationIntervalSeconds;
+    private final long publishLeadSeconds;
+    private final JwtKeyStore jwtKeyStore;
+
+    @Getter
+    private JwtSigningKey hmacKey;
+
+    @Getter
+    private volatile JwtSigningKey activeKey;
+
+    @Getter
+    private volatile Map<String, Object> jwks;
+
+    @Getter
+    private volatile String jwksETag;
+
+    private final Map<String, JwtSigningKey> keys = new LinkedHashMap<>();
+    private volatile Map<String, JwtSigningKey> verificationKeys = Map.of();
+
+    public JwtKeyRing(
+            @Value("${jwt.secret.key}") String secretKey,
+            @Value("${jwt.secret.key-id:hs-1}") String secretKeyId,
+            @Value("${jwt.signing.algorithm:HS256}") SignatureAlgorithm algorithm,
+            @Value("${jwt.signing.ec-private-key:}") String ecPrivateKey,
+            @Value("${jwt.signing.ec-public-key:}") String ecPublicKey,
+            @Value("${jwt.signing.retired-key-ttl-seconds:2592000}") long retiredKeyTtlSeconds,
+            @Value("${jwt.signing.rotation-interval-seconds:0}") long rotationIntervalSeconds,
+            @Value("${jwt.signing.publish-lead-seconds:300}") long publishLeadSeconds,
+            JwtKeyStore jwtKeyStore
+    ) {
+        this.secretKey = secretKey;
+        this.secretKeyId = secretKeyId;
+        this.algorithm = algorithm;
+        this.ecPrivateKey = ecPrivateKey;
+        this.ecPublicKey = ecPublicKey;
+        this.retiredKeyTtlSeconds = retiredKeyTtlSeconds;
+        this.rotationIntervalSeconds = rotationIntervalSeconds;
+        this.publishLeadSeconds = publishLeadSeconds;
+        this.jwtKeyStore = jwtKeyStore;
+    }
+
+    @PostConstruct
+    public synchronized void init() {
+        hmacKey = JwtSigningKey.hmac(secretKeyId, Base64.getDecoder().decode(secretKey));
+        keys.put(hmacKey.getKid(), hmacKey);
+
+        if (algorithm == SignatureAlgorithm.HS256) {
+            activeKey = hmacKey;
+        } else if (algorithm == SignatureAlgorithm.ES256) {
+            KeyPair keyPair = ecPrivateKey.isBlank() ? Keys.keyPairFor(SignatureAlgorithm.ES256) : loadEcKeyPair();
+            if (jwtKeyStore.isEnabled()) {
+                if (jwtKeyStore.list().isEmpty()) {
+                    jwtKeyStore.save(keyPair, System.currentTimeMillis());
+                }
+                reload(System.currentTimeMillis());
+            } else {
+                activeKey = JwtSigningKey.ec(keyPair);
+                keys.put(activeKey.getKid(), activeKey);
+            }
+        } else {
+            throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘입니다. : " + algorithm);
+        }
+
+        publish();
+        log.info("JWT 서명 키 초기화 : alg={}, kid={}", activeKey.getAlgorithm().getValue(), activeKey.getKid());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.key-store.reload-interval-ms:60000}")
+    public synchronized void refresh() {
+        if (!jwtKeyStore.isEnabled() || !activeKey.isPublishable()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<StoredKey> storedKeys = reload(now);
+        long latestNotBefore = storedKeys.isEmpty() ? now : storedKeys.get(storedKeys.size() - 1).notBefore();
+        if (rotationIntervalSeconds > 0 && now - latestNotBefore >= rotationIntervalSeconds * 1000) {
+            rotate();
+        }
+    }
+
+    public synchronized JwtSigningKey rotate() {
+        if (!activeKey.isPublishable()) {
+            throw new IllegalStateException("대칭 키는 교체할 수 없습니다.");
+        }
+        if (!jwtKeyStore.isEnabled()) {
+            throw new IllegalStateException("공유 키 저장소가 설정되지 않아 서명 키를 교체할 수 없습니다.");
+        }
+
+        long now = System.currentTimeMillis();
+        List<StoredKey> storedKeys = jwtKeyStore.list();
+        long latestNotBefore = storedKeys.isEmpty() ? 0 : storedKeys.get(storedKeys.size() - 1).notBefore();
+        StoredKey next = jwtKeyStore.save(Keys.keyPairFor(activeKey.getAlgorithm()),
+                Math.max(now + publishLeadSeconds * 1000, latestNotBefore + 1));
+        reload(now);
+        log.info("JWT 서명 키 교체 예약 : kid={}, notBefore={}", next.kid(), next.notBefore());
+        return keys.get(next.kid());
+    }
+
+    public Key resolveVerificationKey(String kid, String algorithm) {
+        JwtSigningKey signingKey = kid == null ? hmacKey : verificationKeys.get(kid);
+        if (signingKey == null) {
+            throw new SignatureException("알 수 없는 JWT 서명 키입니다.");
+        }
+        if (!signingKey.getAlgorithm().getValue().equals(algorithm)) {
+            throw new UnsupportedJwtException("서명 키와 알고리즘이 일치하지 않습니다.");
+        }
+        return signingKey.getVerificationKey();
+    }
+
+    private List<StoredKey> reload(long now) {
+        List<StoredKey> storedKeys = jwtKeyStore.list();
+        int active = -1;
+        for (int i = 0; i < storedKeys.size() && storedKeys.get(i).notBefore() <= now; i++) {
+            active = i;
+        }
+        if (active < 0) {
+            if (activeKey == null) {
+                throw new IllegalStateException("활성화할 JWT 서명 키가 없습니다.");
+            }
+            log.warn("공유 키 저장소에 활성화할 JWT 서명 키가 없어 현재 키를 유지합니다. : kid={}", activeKey.getKid());
+            return storedKeys;
+        }
+
+        Map<String, JwtSigningKey> reloaded = new LinkedHashMap<>();
+        reloaded.put(hmacKey.getKid(), hmacKey);
+        for (int i = 0; i < storedKeys.size(); i++) {
+            StoredKey storedKey = storedKeys.get(i);
+            if (i < active && now - storedKeys.get(i + 1).notBefore() >= retiredKeyTtlSeconds * 1000) {
+                jwtKeyStore.delete(storedKey);
+                continue;
+            }
+            JwtSigningKey signingKey = keys.get(storedKey.kid());
+            reloaded.put(storedKey.kid(), signingKey != null ? signingKey : jwtKeyStore.read(storedKey));
+        }
+
+        JwtSigningKey next = reloaded.get(storedKeys.get(active).kid());
+        boolean changed = !reloaded.keySet().equals(keys.keySet()) || next != activeKey;
+        keys.clear();
+        keys.putAll(reloaded);
+        activeKey = next;
+        if (changed) {
+            publish();
+            log.info("JWT 서명 키 갱신 : active={}, keys={}", next.getKid(), keys.size() - 1);
+        }
+        return storedKeys;
+    }
+
+    private void publish() {
+        verificationKeys = Map.copyOf(keys);
+
+        List<Map<String, Object>> publicKeys = keys.values().stream()
+                .filter(JwtSigningKey::isPublishable)
+                .map(JwtSigningKey::getJwk)
+                .toList();
+        jwks = Map.of("keys", publicKeys);
+        jwksETag = "\"" + Integer.toHexString(publicKeys.stream().map(jwk -> jwk.get("kid")).toList().hashCode()) + "\"";
+    }
+
+    private KeyPair loadEcKeyPair() {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            return new KeyPair(
+                    keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(ecPublicKey))),
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(ecPrivateKey)))
+            );
+        } catch (Exception e) {
+            throw new IllegalStateException("EC 서명 키를 읽을 수 없습니다.", e);
+        }
+    }
+}
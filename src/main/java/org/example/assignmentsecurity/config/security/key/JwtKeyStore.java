@@ -0,0 +1,114 @@
+package org.example.assignmentsecurity.config.security.key;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class JwtKeyStore {
+
+    private static final String SUFFIX = ".key";
+
+    private final Path directory;
+
+    public JwtKeyStore(@Value("${jwt.signing.key-store.directory:}") String directory) {
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    public List<StoredKey> list() {
+        List<StoredKey> storedKeys = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                StoredKey storedKey = StoredKey.of(path);
+                if (storedKey != null) {
+                    storedKeys.add(storedKey);
+                }
+            });
+        } catch (NoSuchFileException e) {
+            return List.of();
+        } catch (IOException e) {
+            throw new IllegalStateException("JWT 키 저장소를 읽을 수 없습니다. : " + directory, e);
+        }
+        storedKeys.sort(Comparator.comparingLong(StoredKey::notBefore).thenComparing(StoredKey::kid));
+        return storedKeys;
+    }
+
+    public JwtSigningKey read(StoredKey storedKey) {
+        try {
+            List<String> lines = Files.readAllLines(storedKey.path());
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            JwtSigningKey signingKey = JwtSigningKey.ec(new KeyPair(
+                    keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(lines.get(0)))),
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(lines.get(1))))
+            ));
+            if (!signingKey.getKid().equals(storedKey.kid())) {
+                throw new IllegalStateException("파일 이름과 키 식별자가 일치하지 않습니다.");
+            }
+            return signingKey;
+        } catch (Exception e) {
+            throw new IllegalStateException("JWT 서명 키 파일을 읽을 수 없습니다. : " + storedKey.path(), e);
+        }
+    }
+
+    public StoredKey save(KeyPair keyPair, long notBefore) {
+        String kid = JwtSigningKey.ec(keyPair).getKid();
+        Base64.Encoder encoder = Base64.getEncoder();
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "jwt-", ".tmp");
+            Files.write(temp, List.of(
+                    encoder.encodeToString(keyPair.getPublic().getEncoded()),
+                    encoder.encodeToString(keyPair.getPrivate().getEncoded())
+            ));
+            Path path = Files.move(temp, directory.resolve(notBefore + "-" + kid + SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+            return new StoredKey(path, kid, notBefore);
+        } catch (IOException e) {
+            throw new IllegalStateException("JWT 서명 키를 저장할 수 없습니다. : " + directory, e);
+        }
+    }
+
+    public void delete(StoredKey storedKey) {
+        try {
+            Files.deleteIfExists(storedKey.path());
+        } catch (IOException e) {
+            log.warn("만료된 JWT 서명 키를 삭제하지 못했습니다. : {}", storedKey.path(), e);
+        }
+    }
+
+    public record StoredKey(Path path, String kid, long notBefore) {
+
+        private static StoredKey of(Path path) {
+            String name = path.getFileName().toString();
+            int separator = name.indexOf('-');
+            if (!name.endsWith(SUFFIX) || separator <= 0) {
+                return null;
+            }
+            try {
+                long notBefore = Long.parseLong(name.substring(0, separator));
+                return new StoredKey(path, name.substring(separator + 1, name.length() - SUFFIX.length()), notBefore);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
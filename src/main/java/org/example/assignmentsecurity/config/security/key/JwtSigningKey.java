@@ -0,0 +1,87 @@
+package org.example.assignmentsecurity.config.security.key;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+@Getter
+public class JwtSigningKey {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Pattern KEY_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final String kid;
+    private final SignatureAlgorithm algorithm;
+    private final Key signingKey;
+    private final Key verificationKey;
+    private final Map<String, Object> jwk;
+
+    private JwtSigningKey(String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey, Map<String, Object> jwk) {
+        this.kid = kid;
+        this.algorithm = algorithm;
+        this.signingKey = signingKey;
+        this.verificationKey = verificationKey;
+        this.jwk = jwk;
+    }
+
+    public static JwtSigningKey hmac(String kid, byte[] secret) {
+        if (kid == null || !KEY_ID.matcher(kid).matches()) {
+            throw new IllegalStateException("JWT 키 식별자는 영문, 숫자, '.', '_', '-' 로 된 64자 이하여야 합니다. : " + kid);
+        }
+        Key key = Keys.hmacShaKeyFor(secret);
+        return new JwtSigningKey(kid, SignatureAlgorithm.HS256, key, key, null);
+    }
+
+    public static JwtSigningKey ec(KeyPair keyPair) {
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        String x = BASE64_URL.encodeToString(unsignedCoordinate(publicKey.getW().getAffineX()));
+        String y = BASE64_URL.encodeToString(unsignedCoordinate(publicKey.getW().getAffineY()));
+
+        String thumbprintInput = "{\"crv\":\"P-256\",\"kty\":\"EC\",\"x\":\"" + x + "\",\"y\":\"" + y + "\"}";
+        String kid = BASE64_URL.encodeToString(sha256(thumbprintInput.getBytes(StandardCharsets.US_ASCII)));
+
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+        jwk.put("x", x);
+        jwk.put("y", y);
+
+        return new JwtSigningKey(kid, SignatureAlgorithm.ES256, keyPair.getPrivate(), publicKey, Collections.unmodifiableMap(jwk));
+    }
+
+    public boolean isPublishable() {
+        return jwk != null;
+    }
+
+    private static byte[] unsignedCoordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] coordinate = new byte[32];
+        int length = Math.min(bytes.length, coordinate.length);
+        System.arraycopy(bytes, bytes.length - length, coordinate, coordinate.length - length, length);
+        return coordinate;
+    }
+
+    private static byte[] sha256(byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
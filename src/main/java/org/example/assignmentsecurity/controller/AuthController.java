@@ -0,0 +1,71 @@
+package org.example.assignmentsecurity.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.assignmentsecurity.common.format.ApiResult;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.controller.dto.rep.TokenIntrospectRepDto;
+import org.example.assignmentsecurity.controller.dto.rep.TokenRevokeRepDto;
+import org.example.assignmentsecurity.controller.dto.resp.TokenIntrospectRespDto;
+import org.example.assignmentsecurity.service.TokenIntrospectionService;
+import org.example.assignmentsecurity.service.TokenRevocationService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class AuthController implements AuthControllerDocs {
+
+    private static final CacheControl JWKS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1))
+            .cachePublic()
+            .staleWhileRevalidate(Duration.ofMinutes(10));
+
+    private final JwtKeyRing jwtKeyRing;
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final TokenRevocationService tokenRevocationService;
+
+    @GetMapping("/auth/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks(WebRequest webRequest) {
+        String eTag = jwtKeyRing.getJwksETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(JWKS_CACHE_CONTROL)
+                    .eTag(eTag)
+                    .build();
+        }
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(JWKS_CACHE_CONTROL)
+                .eTag(eTag)
+                .body(jwtKeyRing.getJwks());
+    }
+
+    @PostMapping("/auth/introspect")
+    public ResponseEntity<ApiResult<List<TokenIntrospectRespDto>>> introspect(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestBody TokenIntrospectRepDto dto
+    ) {
+        List<TokenIntrospectRespDto> respDto = tokenIntrospectionService.introspect(authUser.getNickname(), dto.getTokens());
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResult.success(respDto));
+    }
+
+    @PostMapping("/auth/revoke")
+    public ResponseEntity<ApiResult<Void>> revoke(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestBody TokenRevokeRepDto dto
+    ) {
+        tokenRevocationService.revoke(authUser, dto.getToken());
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResult.success(null));
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.assignmentsecurity.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.example.assignmentsecurity.common.format.ApiResult;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.controller.dto.rep.TokenIntrospectRepDto;
+import org.example.assignmentsecurity.controller.dto.rep.TokenRevokeRepDto;
+import org.example.assignmentsecurity.controller.dto.resp.TokenIntrospectRespDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Map;
+
+@Tag(name = "Auth", description = "토큰 검증 API")
+public interface AuthControllerDocs {
+
+    @Operation(summary = "JWKS 조회", description = "액세스 토큰 검증에 사용하는 공개 키 목록을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "공개 키 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "keys": [
+                                                {
+                                                  "kty": "EC",
+                                                  "crv": "P-256",
+                                                  "kid": "NzbLsXh8uDCcd-6MNwXF4W_7noWXFZAfHkxZsRGC9Xs",
+                                                  "use": "sig",
+                                                  "alg": "ES256",
+                                                  "x": "f83OJ3D2xF1Bg8vub9tLe1gHMzV76e8Tus9uPHvRVEU",
+                                                  "y": "x_FEzRu9m36HLN_tue659LNpXW6pCyStikYjKIWI5a0"
+                                                }
+                                              ]
+                                            }
+                                            """
+                            )
+                    )),
+            @ApiResponse(responseCode = "304", description = "공개 키 변경 없음")
+    })
+    @GetMapping("/auth/.well-known/jwks.json")
+    ResponseEntity<Map<String, Object>> jwks(WebRequest webRequest);
+
+    @Operation(summary = "토큰 일괄 검증", description = "여러 액세스 토큰의 유효성을 한 번에 검증합니다. ADMIN 권한이 필요합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "토큰 검증 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "data": [
+                                                {
+                                                  "active": true,
+                                                  "subject": "Spring",
+                                                  "roles": ["ROLE_USER"],
+                                                  "exp": 1737880842,
+                                                  "error": null
+                                                },
+                                                {
+                                                  "active": false,
+                                                  "subject": null,
+                                                  "roles": null,
+                                                  "exp": null,
+                                                  "error": "EXPIRED_JWT_TOKEN"
+                                                }
+                                              ],
+                                              "success": true,
+                                              "error": null
+                                            }
+                                            """
+                            )
+                    )),
+            @ApiResponse(responseCode = "400", description = "최대 토큰 개수 초과",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "data": {},
+                                              "success": false,
+                                              "error": {
+                                                "message": "한 번에 검증할 수 있는 토큰 개수를 초과하였습니다.",
+                                                "status": 400
+                                              }
+                                            }
+                                            """
+                            )
+                    )),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "권한 없음"),
+            @ApiResponse(responseCode = "429", description = "검증 요청 한도 초과",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "data": {},
+                                              "success": false,
+                                              "error": {
+                                                "message": "토큰 검증 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.",
+                                                "status": 429
+                                              }
+                                            }
+                                            """
+                            )
+                    ))
+    })
+    @PostMapping("/auth/introspect")
+    ResponseEntity<ApiResult<List<TokenIntrospectRespDto>>> introspect(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestBody TokenIntrospectRepDto dto
+    );
+
+    @Operation(summary = "토큰 폐기", description = "본인의 액세스 토큰을 폐기합니다. 관리자는 다른 사용자의 토큰도 폐기할 수 있습니다. 폐기된 토큰은 만료 전이라도 인증에 사용할 수 없습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "토큰 폐기 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "data": null,
+                                              "success": true,
+                                              "error": null
+                                            }
+                                            """
+                            )
+                    )),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "다른 사용자의 토큰 폐기 시도")
+    })
+    @PostMapping("/auth/revoke")
+    ResponseEntity<ApiResult<Void>> revoke(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestBody TokenRevokeRepDto dto
+    );
+}
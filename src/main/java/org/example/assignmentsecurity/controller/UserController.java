@@ -16,15 +16,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 public class UserController implements UserControllerDocs{
     private final UserService userService;
 
     @PostMapping("/auth/signup")
-    public ResponseEntity<ApiResult<UserCreateRespDto>> signin(@RequestBody UserCreateRepDto dto) {
-        UserCreateRespDto respDto = userService.register(dto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResult.success(respDto));
+    public CompletableFuture<ResponseEntity<ApiResult<UserCreateRespDto>>> signin(@RequestBody UserCreateRepDto dto) {
+        return userService.register(dto)
+                .thenApply(respDto -> ResponseEntity.status(HttpStatus.CREATED).body(ApiResult.success(respDto)));
     }
 
     @GetMapping("/api/users")
@@ -18,6 +18,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.concurrent.CompletableFuture;
+
 @Tag(name = "Users", description = "사용자 관리 API")
 public interface UserControllerDocs {
 
@@ -74,10 +76,25 @@ public interface UserControllerDocs {
                                               }
                                             }
                                             """
+                            ))),
+            @ApiResponse(responseCode = "503", description = "요청 과다",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "data": {},
+                                              "success": false,
+                                              "error": {
+                                                "message": "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.",
+                                                "status": 503
+                                              }
+                                            }
+                                            """
                             )))
     })
     @PostMapping("/auth/signup")
-    ResponseEntity<ApiResult<UserCreateRespDto>> signin(@RequestBody UserCreateRepDto dto);
+    CompletableFuture<ResponseEntity<ApiResult<UserCreateRespDto>>> signin(@RequestBody UserCreateRepDto dto);
 
     @Operation(summary = "사용자 정보 조회", description = "현재 로그인한 사용자의 정보를 조회합니다.")
     @ApiResponses({
@@ -198,6 +215,22 @@ public interface UserControllerDocs {
                                             }
                                             """
                             )
+                    )),
+            @ApiResponse(responseCode = "503", description = "요청 과다",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "data": {},
+                                              "success": false,
+                                              "error": {
+                                                "message": "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.",
+                                                "status": 503
+                                              }
+                                            }
+                                            """
+                            )
                     ))
     })
     @PostMapping("/auth/login")
@@ -0,0 +1,18 @@
+package org.example.assignmentsecurity.controller.dto.rep;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "토큰 일괄 검증 요청")
+public class TokenIntrospectRepDto {
+
+    @Schema(description = "검증할 액세스 토큰 목록", example = "[\"Bearer eyJraWQiOi...\"]")
+    private List<String> tokens;
+}
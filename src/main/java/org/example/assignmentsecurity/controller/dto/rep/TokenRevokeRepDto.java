@@ -0,0 +1,16 @@
+package org.example.assignmentsecurity.controller.dto.rep;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "토큰 폐기 요청")
+public class TokenRevokeRepDto {
+
+    @Schema(description = "폐기할 액세스 토큰", example = "Bearer eyJraWQiOi...")
+    private String token;
+}
@@ -0,0 +1,34 @@
+package org.example.assignmentsecurity.controller.dto.resp;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.config.security.VerifiedToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectRespDto {
+
+    private boolean active;
+    private String subject;
+    private List<String> roles;
+    private Long exp;
+    private String error;
+
+    public static TokenIntrospectRespDto active(VerifiedToken verifiedToken) {
+        List<String> roles = verifiedToken.getAuthUser().getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        Long exp = verifiedToken.getExpiresAt() == Long.MAX_VALUE ? null : verifiedToken.getExpiresAt() / 1000;
+        return new TokenIntrospectRespDto(true, verifiedToken.getAuthUser().getNickname(), roles, exp, null);
+    }
+
+    public static TokenIntrospectRespDto inactive(ErrorCode errorCode) {
+        return new TokenIntrospectRespDto(false, null, null, null, errorCode.name());
+    }
+}
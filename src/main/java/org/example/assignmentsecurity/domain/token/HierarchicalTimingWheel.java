@@ -0,0 +1,129 @@
+package org.example.assignmentsecurity.domain.token;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class HierarchicalTimingWheel<K> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final List<Timeout<K>> buckets = new ArrayList<>(LEVELS * WHEEL_SIZE);
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int bucket = 0; bucket < LEVELS * WHEEL_SIZE; bucket++) {
+            Timeout<K> sentinel = new Timeout<>(null, 0L);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            buckets.add(sentinel);
+        }
+    }
+
+    public synchronized Timeout<K> schedule(K key, long deadlineMillis) {
+        Timeout<K> timeout = new Timeout<>(key, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        insert(timeout, currentTick + 1);
+        size++;
+        return timeout;
+    }
+
+    public synchronized void cancel(Timeout<K> timeout) {
+        if (timeout.prev != null) {
+            unlink(timeout);
+            size--;
+        }
+    }
+
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = 1; level < LEVELS && index(currentTick, level - 1) == 0; level++) {
+                cascade(level, index(currentTick, level));
+            }
+
+            Timeout<K> sentinel = bucket(0, index(currentTick, 0));
+            Timeout<K> timeout = sentinel.next;
+            while (timeout != sentinel) {
+                Timeout<K> next = timeout.next;
+                unlink(timeout);
+                if (timeout.deadlineTick <= currentTick) {
+                    expired.add(timeout.key);
+                    size--;
+                } else {
+                    insert(timeout, currentTick + 1);
+                }
+                timeout = next;
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout<K> sentinel = bucket(level, slot);
+        Timeout<K> timeout = sentinel.next;
+        while (timeout != sentinel) {
+            Timeout<K> next = timeout.next;
+            unlink(timeout);
+            insert(timeout, currentTick);
+            timeout = next;
+        }
+    }
+
+    private void insert(Timeout<K> timeout, long earliestTick) {
+        long slotTick = Math.max(timeout.deadlineTick, earliestTick);
+        long delta = Math.min(slotTick - currentTick, MAX_DELTA);
+        slotTick = currentTick + delta;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+
+        Timeout<K> sentinel = bucket(level, index(slotTick, level));
+        timeout.prev = sentinel.prev;
+        timeout.next = sentinel;
+        sentinel.prev.next = timeout;
+        sentinel.prev = timeout;
+    }
+
+    private void unlink(Timeout<K> timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    private Timeout<K> bucket(int level, int slot) {
+        return buckets.get(level << WHEEL_BITS | slot);
+    }
+
+    private static int index(long tick, int level) {
+        return (int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+    }
+
+    public static final class Timeout<K> {
+
+        private final K key;
+        private final long deadlineTick;
+        private Timeout<K> prev;
+        private Timeout<K> next;
+
+        private Timeout(K key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.example.assignmentsecurity.domain.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Component
+@ConditionalOnProperty(name = "security.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Shard[] shards;
+    private final int shardCapacity;
+    private final UserSessionIndex userSessions;
+    private final HierarchicalTimingWheel<String> timingWheel;
+    private final Counter expired;
+    private final Counter evicted;
+
+    public InMemoryRefreshTokenStore(
+            @Value("${security.refresh-token.memory.shards:16}") int shardCount,
+            @Value("${security.refresh-token.memory.max-entries:100000}") int maxEntries,
+            @Value("${security.refresh-token.memory.tick-ms:1000}") long tickMillis,
+            @Value("${security.refresh-token.max-sessions-per-user:5}") int maxSessionsPerUser,
+            MeterRegistry meterRegistry
+    ) {
+        this.userSessions = new UserSessionIndex(maxSessionsPerUser);
+        int count = Integer.highestOneBit(Math.max(1, shardCount));
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard();
+        }
+        this.shardCapacity = Math.max(1, (maxEntries + count - 1) / count);
+        this.timingWheel = new HierarchicalTimingWheel<>(tickMillis, System.currentTimeMillis());
+
+        this.expired = Counter.builder("security.refresh.sessions.removed")
+                .tag("reason", "expired")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("security.refresh.sessions.removed")
+                .tag("reason", "evicted")
+                .register(meterRegistry);
+        Gauge.builder("security.refresh.sessions", this, InMemoryRefreshTokenStore::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void save(RefreshSession session) {
+        Long userId = session.getUserId();
+        String tokenHash = session.getTokenHash();
+        Entry entry = new Entry(session, timingWheel.schedule(tokenHash, session.getExpiresAt().toEpochMilli()));
+
+        Shard shard = shard(tokenHash);
+        Entry previousEntry = shard.put(tokenHash, entry);
+        if (previousEntry != null) {
+            timingWheel.cancel(previousEntry.timeout);
+        }
+        Entry eldest = shard.evictEldest(shardCapacity);
+        if (eldest != null) {
+            release(eldest);
+            evicted.increment();
+        }
+
+        for (String oldest : userSessions.add(userId, tokenHash)) {
+            discard(oldest);
+        }
+    }
+
+    @Override
+    public Optional<RefreshSession> findByTokenHash(String tokenHash) {
+        Entry entry = shard(tokenHash).get(tokenHash);
+        return entry == null ? Optional.empty() : Optional.of(entry.session);
+    }
+
+    @Override
+    public void updateRoles(String tokenHash, int roleMask, Instant rolesCheckedAt) {
+        shard(tokenHash).computeIfPresent(tokenHash,
+                entry -> new Entry(entry.session.withRoles(roleMask, rolesCheckedAt), entry.timeout));
+    }
+
+    @Override
+    public void revoke(String tokenHash) {
+        Entry entry = shard(tokenHash).remove(tokenHash);
+        if (entry != null) {
+            release(entry);
+        }
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        for (String tokenHash : userSessions.removeAll(userId)) {
+            discard(tokenHash);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-token.memory.tick-ms:1000}")
+    public void expire() {
+        expire(System.currentTimeMillis());
+    }
+
+    public void expire(long nowMillis) {
+        for (String tokenHash : timingWheel.advance(nowMillis)) {
+            Entry entry = shard(tokenHash).removeIfExpired(tokenHash, nowMillis);
+            if (entry != null) {
+                userSessions.remove(entry.session.getUserId(), tokenHash);
+                expired.increment();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private void release(Entry entry) {
+        timingWheel.cancel(entry.timeout);
+        userSessions.remove(entry.session.getUserId(), entry.session.getTokenHash());
+    }
+
+    private void discard(String tokenHash) {
+        Entry entry = shard(tokenHash).remove(tokenHash);
+        if (entry != null) {
+            timingWheel.cancel(entry.timeout);
+        }
+    }
+
+    private Shard shard(String tokenHash) {
+        int hash = tokenHash.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+
+    private record Entry(RefreshSession session, HierarchicalTimingWheel.Timeout<String> timeout) {
+    }
+
+    private static final class Shard {
+
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+        private synchronized Entry put(String tokenHash, Entry entry) {
+            return entries.put(tokenHash, entry);
+        }
+
+        private synchronized Entry evictEldest(int capacity) {
+            if (entries.size() <= capacity) {
+                return null;
+            }
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            return eldest;
+        }
+
+        private synchronized void computeIfPresent(String tokenHash, UnaryOperator<Entry> update) {
+            entries.computeIfPresent(tokenHash, (key, entry) -> update.apply(entry));
+        }
+
+        private synchronized Entry get(String tokenHash) {
+            return entries.get(tokenHash);
+        }
+
+        private synchronized Entry remove(String tokenHash) {
+            return entries.remove(tokenHash);
+        }
+
+        private synchronized Entry removeIfExpired(String tokenHash, long nowMillis) {
+            Entry entry = entries.get(tokenHash);
+            if (entry == null || entry.session.getExpiresAt().toEpochMilli() > nowMillis) {
+                return null;
+            }
+            return entries.remove(tokenHash);
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+}
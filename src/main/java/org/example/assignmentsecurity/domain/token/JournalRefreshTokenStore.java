@@ -0,0 +1,441 @@
+package org.example.assignmentsecurity.domain.token;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.assignmentsecurity.common.util.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.refresh-token.store", havingValue = "journal")
+public class JournalRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int HEADER_SIZE = 72;
+    private static final int MAX_SUBJECT_BYTES = 1024;
+    private static final int MIN_SEGMENT_SIZE = 4096;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final byte ISSUE = 1;
+    private static final byte REVOKE = 2;
+    private static final byte REVOKE_ALL = 3;
+    private static final String NO_TOKEN_HASH = "0".repeat(TokenDigest.SHA_256_HEX_LENGTH);
+    private static final int HASH_BYTES = TokenDigest.SHA_256_HEX_LENGTH / 2;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final double compactionThreshold;
+    private final CopyOnWriteArrayList<Segment> segments = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<String, Location> index = new ConcurrentHashMap<>();
+    private final UserSessionIndex userSessions;
+    private final Object writeLock = new Object();
+
+    private Segment active;
+
+    public JournalRefreshTokenStore(
+            @Value("${security.refresh-token.journal.directory:./data/refresh-journal}") String directory,
+            @Value("${security.refresh-token.journal.segment-size:16777216}") int segmentSize,
+            @Value("${security.refresh-token.journal.compaction-threshold:0.5}") double compactionThreshold,
+            @Value("${security.refresh-token.max-sessions-per-user:5}") int maxSessionsPerUser,
+            MeterRegistry meterRegistry
+    ) {
+        this.userSessions = new UserSessionIndex(maxSessionsPerUser);
+        this.directory = Path.of(directory);
+        this.segmentSize = Math.max(MIN_SEGMENT_SIZE, segmentSize);
+        this.compactionThreshold = compactionThreshold;
+        recover();
+
+        Gauge.builder("security.refresh.journal.sessions", index, ConcurrentHashMap::size)
+                .register(meterRegistry);
+        Gauge.builder("security.refresh.journal.segments", segments, List::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void save(RefreshSession session) {
+        synchronized (writeLock) {
+            Location location = append(ISSUE, session);
+            applyIssue(session.getUserId(), session.getTokenHash(), location);
+        }
+    }
+
+    @Override
+    public Optional<RefreshSession> findByTokenHash(String tokenHash) {
+        Location location = index.get(tokenHash);
+        return location == null ? Optional.empty() : Optional.of(read(location, tokenHash));
+    }
+
+    @Override
+    public void updateRoles(String tokenHash, int roleMask, Instant rolesCheckedAt) {
+        synchronized (writeLock) {
+            Location location = index.get(tokenHash);
+            if (location == null) {
+                return;
+            }
+            RefreshSession session = read(location, tokenHash).withRoles(roleMask, rolesCheckedAt);
+            applyIssue(session.getUserId(), tokenHash, append(ISSUE, session));
+        }
+    }
+
+    @Override
+    public void revoke(String tokenHash) {
+        synchronized (writeLock) {
+            Location location = index.get(tokenHash);
+            if (location == null) {
+                return;
+            }
+            RefreshSession session = read(location, tokenHash);
+            append(REVOKE, new RefreshSession(session.getUserId(), tokenHash, null, 0, null, session.getExpiresAt()));
+            applyRevoke(session.getUserId(), tokenHash);
+        }
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        synchronized (writeLock) {
+            append(REVOKE_ALL, new RefreshSession(userId, NO_TOKEN_HASH, null, 0, null, Instant.EPOCH));
+            applyRevokeAll(userId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-token.journal.compaction-interval-ms:60000}")
+    public void compact() {
+        compact(System.currentTimeMillis());
+    }
+
+    public void compact(long nowMillis) {
+        synchronized (writeLock) {
+            while (segments.size() > 1) {
+                Segment oldest = segments.get(0);
+                List<Integer> live = new ArrayList<>();
+                long liveBytes = 0;
+                MappedByteBuffer buffer = oldest.buffer;
+                for (int offset = 0; offset < oldest.position; offset += length(buffer, offset)) {
+                    if (isLive(oldest, offset, nowMillis)) {
+                        live.add(offset);
+                        liveBytes += length(buffer, offset);
+                    }
+                }
+                if (liveBytes > oldest.position * compactionThreshold) {
+                    return;
+                }
+
+                for (int offset : live) {
+                    Location location = copy(oldest, offset);
+                    index.replace(readHash(buffer, offset), new Location(oldest, offset), location);
+                }
+                dropExpired(oldest, nowMillis);
+                segments.remove(oldest);
+                delete(oldest);
+            }
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (writeLock) {
+            for (Segment segment : segments) {
+                segment.buffer.force();
+                closeQuietly(segment);
+            }
+        }
+    }
+
+    private void recover() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream
+                        .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                        .sorted()
+                        .toList();
+            }
+
+            for (Path file : files) {
+                Segment segment = open(file, sequenceOf(file));
+                segments.add(segment);
+                replay(segment);
+            }
+            if (segments.isEmpty()) {
+                segments.add(open(segmentPath(0), 0));
+            }
+            active = segments.get(segments.size() - 1);
+            restoreSessionOrder();
+            log.info("refresh 세션 저널 복구 완료 : segments={}, sessions={}", segments.size(), index.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void replay(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        long nowMillis = System.currentTimeMillis();
+        int offset = 0;
+        while (offset + HEADER_SIZE <= buffer.capacity()) {
+            byte type = buffer.get(offset);
+            int length = length(buffer, offset);
+            if (type == 0 || length < HEADER_SIZE || offset + length > buffer.capacity()
+                    || buffer.getInt(offset + 4) != checksum(type, buffer, offset, length)) {
+                break;
+            }
+            String tokenHash = readHash(buffer, offset);
+            long userId = buffer.getLong(offset + 8);
+            if (type == ISSUE) {
+                if (index.put(tokenHash, new Location(segment, offset)) == null) {
+                    userSessions.track(userId, tokenHash);
+                }
+                if (buffer.getLong(offset + 16) <= nowMillis) {
+                    applyRevoke(userId, tokenHash);
+                }
+            } else if (type == REVOKE) {
+                applyRevoke(userId, tokenHash);
+            } else {
+                applyRevokeAll(userId);
+            }
+            offset += length;
+        }
+        segment.position = offset;
+    }
+
+    private void restoreSessionOrder() {
+        List<Map.Entry<String, Location>> live = new ArrayList<>(index.entrySet());
+        live.sort(Comparator.comparingLong(entry -> expiresAt(entry.getValue())));
+        userSessions.clear();
+        for (Map.Entry<String, Location> entry : live) {
+            Location location = entry.getValue();
+            applyIssue(location.segment.buffer.getLong(location.offset + 8), entry.getKey(), location);
+        }
+    }
+
+    private Location append(byte type, RefreshSession session) {
+        byte[] subject = session.getSubject() != null ? session.getSubject().getBytes(StandardCharsets.UTF_8) : null;
+        if (subject != null && subject.length > MAX_SUBJECT_BYTES) {
+            subject = null;
+        }
+        int length = align(HEADER_SIZE + (subject != null ? subject.length : 0));
+        MappedByteBuffer buffer = reserve(length);
+
+        int offset = active.position;
+        buffer.putShort(offset + 2, (short) length);
+        buffer.putLong(offset + 8, session.getUserId());
+        buffer.putLong(offset + 16, session.getExpiresAt().toEpochMilli());
+        buffer.putLong(offset + 24, session.getRolesCheckedAt() != null ? session.getRolesCheckedAt().toEpochMilli() : NO_TIMESTAMP);
+        buffer.putInt(offset + 32, session.getRoleMask());
+        buffer.putShort(offset + 36, (short) (subject != null ? subject.length : -1));
+        buffer.put(offset + 40, HEX.parseHex(session.getTokenHash()));
+        if (subject != null) {
+            buffer.put(offset + HEADER_SIZE, subject);
+        }
+        return commit(type, length);
+    }
+
+    private Location copy(Segment source, int sourceOffset) {
+        int length = length(source.buffer, sourceOffset);
+        MappedByteBuffer buffer = reserve(length);
+        buffer.put(active.position + 1, source.buffer, sourceOffset + 1, length - 1);
+        return commit(source.buffer.get(sourceOffset), length);
+    }
+
+    private MappedByteBuffer reserve(int length) {
+        if (active.position + length > active.buffer.capacity()) {
+            roll();
+        }
+        return active.buffer;
+    }
+
+    private Location commit(byte type, int length) {
+        MappedByteBuffer buffer = active.buffer;
+        int offset = active.position;
+        buffer.putInt(offset + 4, checksum(type, buffer, offset, length));
+        buffer.put(offset, type);
+        active.position += length;
+        return new Location(active, offset);
+    }
+
+    private RefreshSession read(Location location, String tokenHash) {
+        MappedByteBuffer buffer = location.segment.buffer;
+        int offset = location.offset;
+        short subjectLength = buffer.getShort(offset + 36);
+        String subject = null;
+        if (subjectLength >= 0) {
+            byte[] bytes = new byte[subjectLength];
+            buffer.get(offset + HEADER_SIZE, bytes);
+            subject = new String(bytes, StandardCharsets.UTF_8);
+        }
+        long rolesCheckedAt = buffer.getLong(offset + 24);
+        return new RefreshSession(
+                buffer.getLong(offset + 8),
+                tokenHash,
+                subject,
+                buffer.getInt(offset + 32),
+                rolesCheckedAt != NO_TIMESTAMP ? Instant.ofEpochMilli(rolesCheckedAt) : null,
+                Instant.ofEpochMilli(buffer.getLong(offset + 16))
+        );
+    }
+
+    private void roll() {
+        active.buffer.force();
+        Segment next = open(segmentPath(active.sequence + 1), active.sequence + 1);
+        segments.add(next);
+        active = next;
+    }
+
+    private void applyIssue(long userId, String tokenHash, Location location) {
+        index.put(tokenHash, location);
+        for (String oldest : userSessions.add(userId, tokenHash)) {
+            Location evicted = index.remove(oldest);
+            if (evicted != null) {
+                append(REVOKE, new RefreshSession(userId, oldest, null, 0, null, Instant.ofEpochMilli(expiresAt(evicted))));
+            }
+        }
+    }
+
+    private void applyRevoke(long userId, String tokenHash) {
+        index.remove(tokenHash);
+        userSessions.remove(userId, tokenHash);
+    }
+
+    private void applyRevokeAll(long userId) {
+        for (String tokenHash : userSessions.removeAll(userId)) {
+            index.remove(tokenHash);
+        }
+    }
+
+    private boolean isLive(Segment segment, int offset, long nowMillis) {
+        MappedByteBuffer buffer = segment.buffer;
+        if (buffer.get(offset) != ISSUE || buffer.getLong(offset + 16) <= nowMillis) {
+            return false;
+        }
+        Location location = index.get(readHash(buffer, offset));
+        return location != null && location.segment == segment && location.offset == offset;
+    }
+
+    private void dropExpired(Segment segment, long nowMillis) {
+        MappedByteBuffer buffer = segment.buffer;
+        for (int offset = 0; offset < segment.position; offset += length(buffer, offset)) {
+            if (buffer.get(offset) == ISSUE && buffer.getLong(offset + 16) <= nowMillis) {
+                String tokenHash = readHash(buffer, offset);
+                if (index.remove(tokenHash, new Location(segment, offset))) {
+                    userSessions.remove(buffer.getLong(offset + 8), tokenHash);
+                }
+            }
+        }
+    }
+
+    private Segment open(Path file, long sequence) {
+        try {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            return new Segment(sequence, file, channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void delete(Segment segment) {
+        closeQuietly(segment);
+        try {
+            Files.deleteIfExists(segment.file);
+        } catch (IOException e) {
+            log.warn("저널 세그먼트 삭제 실패 : {}, {}", segment.file, e.getMessage());
+        }
+    }
+
+    private void closeQuietly(Segment segment) {
+        try {
+            segment.channel.close();
+        } catch (IOException e) {
+            log.debug("저널 세그먼트 닫기 실패 : {}", segment.file);
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long expiresAt(Location location) {
+        return location.segment.buffer.getLong(location.offset + 16);
+    }
+
+    private static String readHash(MappedByteBuffer buffer, int offset) {
+        byte[] hash = new byte[HASH_BYTES];
+        buffer.get(offset + 40, hash);
+        return HEX.formatHex(hash);
+    }
+
+    private static int length(MappedByteBuffer buffer, int offset) {
+        return Short.toUnsignedInt(buffer.getShort(offset + 2));
+    }
+
+    private static int align(int length) {
+        return (length + 7) & ~7;
+    }
+
+    private static int checksum(byte type, MappedByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(buffer.slice(offset + 2, 2));
+        crc.update(buffer.slice(offset + 8, length - 8));
+        return (int) crc.getValue();
+    }
+
+    private record Location(Segment segment, int offset) {
+    }
+
+    private static final class Segment {
+
+        private final long sequence;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position;
+
+        private Segment(long sequence, Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+}
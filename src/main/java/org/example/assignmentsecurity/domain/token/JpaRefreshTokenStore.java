@@ -0,0 +1,82 @@
+package org.example.assignmentsecurity.domain.token;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "security.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int maxSessionsPerUser;
+
+    public JpaRefreshTokenStore(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${security.refresh-token.max-sessions-per-user:5}") int maxSessionsPerUser
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.maxSessionsPerUser = Math.max(1, maxSessionsPerUser);
+    }
+
+    @Override
+    public void save(RefreshSession session) {
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(session.getUserId())
+                .tokenHash(session.getTokenHash())
+                .subject(session.getSubject())
+                .roleMask(session.getRoleMask())
+                .rolesCheckedAt(toLocalDateTime(session.getRolesCheckedAt()))
+                .expiryDate(toLocalDateTime(session.getExpiresAt()))
+                .build());
+
+        List<Long> oldestKept = refreshTokenRepository.findSessionIds(
+                session.getUserId(), PageRequest.of(maxSessionsPerUser - 1, 1));
+        if (!oldestKept.isEmpty()) {
+            refreshTokenRepository.deleteOlderSessions(session.getUserId(), oldestKept.get(0));
+        }
+    }
+
+    @Override
+    public Optional<RefreshSession> findByTokenHash(String tokenHash) {
+        return refreshTokenRepository.findByTokenHash(tokenHash)
+                .map(token -> new RefreshSession(
+                        token.getUserId(),
+                        token.getTokenHash(),
+                        token.getSubject(),
+                        token.getRoleMask() != null ? token.getRoleMask() : 0,
+                        toInstant(token.getRolesCheckedAt()),
+                        toInstant(token.getExpiryDate())
+                ));
+    }
+
+    @Override
+    public void updateRoles(String tokenHash, int roleMask, Instant rolesCheckedAt) {
+        refreshTokenRepository.updateRoles(tokenHash, roleMask, toLocalDateTime(rolesCheckedAt));
+    }
+
+    @Override
+    public void revoke(String tokenHash) {
+        refreshTokenRepository.deleteByTokenHash(tokenHash);
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneId.systemDefault()) : null;
+    }
+
+    private static Instant toInstant(LocalDateTime localDateTime) {
+        return localDateTime != null ? localDateTime.atZone(ZoneId.systemDefault()).toInstant() : null;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.assignmentsecurity.domain.token;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@RequiredArgsConstructor
+public class RefreshSession {
+
+    private final Long userId;
+    private final String tokenHash;
+    private final String subject;
+    private final int roleMask;
+    private final Instant rolesCheckedAt;
+    private final Instant expiresAt;
+
+    public boolean isExpired() {
+        return Instant.now().isAfter(expiresAt);
+    }
+
+    public boolean hasRoleSnapshot() {
+        return subject != null && rolesCheckedAt != null;
+    }
+
+    public RefreshSession withRoles(int roleMask, Instant rolesCheckedAt) {
+        return new RefreshSession(userId, tokenHash, subject, roleMask, rolesCheckedAt, expiresAt);
+    }
+}
@@ -2,24 +2,46 @@ package org.example.assignmentsecurity.domain.token;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.assignmentsecurity.common.util.TokenDigest;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "refresh_token", uniqueConstraints = {
+        @UniqueConstraint(name = RefreshTokenHashMigration.TOKEN_HASH_INDEX, columnNames = "token_hash")
+}, indexes = {
+        @Index(name = RefreshTokenHashMigration.USER_ID_INDEX, columnList = "user_id"),
+        @Index(name = RefreshTokenHashMigration.EXPIRY_DATE_INDEX, columnList = "expiry_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
 
     @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false)
-    private String refreshToken ;
+    private Long userId;
+
+    @Column(nullable = false, length = TokenDigest.SHA_256_HEX_LENGTH)
+    private String tokenHash;
+
+    private String subject;
+
+    private Integer roleMask;
+
+    private LocalDateTime rolesCheckedAt;
 
     @Column(nullable = false)
     private LocalDateTime expiryDate;
@@ -29,9 +51,21 @@ public class RefreshToken {
     }
 
     @Builder
-    public RefreshToken(Long id, String refreshToken, LocalDateTime expiryDate) {
+    public RefreshToken(
+            Long id,
+            Long userId,
+            String tokenHash,
+            String subject,
+            Integer roleMask,
+            LocalDateTime rolesCheckedAt,
+            LocalDateTime expiryDate
+    ) {
         this.id = id;
-        this.refreshToken = refreshToken;
+        this.userId = userId;
+        this.tokenHash = tokenHash;
+        this.subject = subject;
+        this.roleMask = roleMask;
+        this.rolesCheckedAt = rolesCheckedAt;
         this.expiryDate = expiryDate;
     }
 }
@@ -0,0 +1,187 @@
+package org.example.assignmentsecurity.domain.token;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.assignmentsecurity.common.util.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class RefreshTokenHashMigration {
+
+    public static final String LOCK_NAME = "refresh_token_hash";
+    public static final String TOKEN_HASH_INDEX = "uk_refresh_token_token_hash";
+    public static final String USER_ID_INDEX = "idx_refresh_token_user_id";
+    public static final String EXPIRY_DATE_INDEX = "idx_refresh_token_expiry_date";
+
+    private static final String TABLE = "refresh_token";
+    private static final String COLUMN_QUERY = "select count(*) from information_schema.columns "
+            + "where lower(table_name) = '" + TABLE + "' and lower(column_name) = ?";
+    private static final long LOCK_RETRY_MILLIS = 1000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long lockLeaseMillis;
+    private final long lockWaitMillis;
+    private final String owner = UUID.randomUUID().toString();
+
+    public RefreshTokenHashMigration(
+            JdbcTemplate jdbcTemplate,
+            @Value("${security.refresh-token.migration.batch-size:500}") int batchSize,
+            @Value("${security.refresh-token.migration.lock-lease-ms:600000}") long lockLeaseMillis,
+            @Value("${security.refresh-token.migration.lock-wait-ms:600000}") long lockWaitMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.lockLeaseMillis = lockLeaseMillis;
+        this.lockWaitMillis = lockWaitMillis;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (!needsMigration()) {
+            return;
+        }
+        acquireLock();
+
+        try {
+            if (hasColumn("refresh_token")) {
+                migrateTokenHash();
+            }
+            if (needsSessionKeyMigration()) {
+                migrateSessionKey();
+            }
+        } finally {
+            jdbcTemplate.update("delete from schema_migration_lock where name = ? and owner = ?", LOCK_NAME, owner);
+        }
+    }
+
+    private boolean needsMigration() {
+        return hasColumn("refresh_token") || needsSessionKeyMigration();
+    }
+
+    private boolean needsSessionKeyMigration() {
+        return hasColumn("id") && !hasIndex(USER_ID_INDEX);
+    }
+
+    private void migrateTokenHash() {
+        if (!hasColumn("token_hash")) {
+            jdbcTemplate.execute("alter table refresh_token add column token_hash varchar(" + TokenDigest.SHA_256_HEX_LENGTH + ")");
+        }
+
+        int migrated = 0;
+        List<Object[]> digests;
+        do {
+            digests = jdbcTemplate.query(
+                    "select id, refresh_token from refresh_token where token_hash is null order by id limit ?",
+                    (rs, rowNum) -> new Object[]{TokenDigest.sha256Hex(rs.getString(2)), rs.getLong(1)},
+                    batchSize
+            );
+            jdbcTemplate.batchUpdate("update refresh_token set token_hash = ? where id = ? and token_hash is null", digests);
+            migrated += digests.size();
+        } while (digests.size() == batchSize);
+
+        jdbcTemplate.execute("alter table refresh_token modify column token_hash varchar(" + TokenDigest.SHA_256_HEX_LENGTH + ") not null");
+        if (!hasUniqueIndexOn("token_hash")) {
+            jdbcTemplate.execute("create unique index " + TOKEN_HASH_INDEX + " on refresh_token (token_hash)");
+        }
+        jdbcTemplate.execute("alter table refresh_token drop column refresh_token");
+        log.info("refresh token 해시 마이그레이션 완료 : rows={}", migrated);
+    }
+
+    // 기존 행은 회원 id 를 기본 키로 사용했으므로 그 값을 user_id 로 옮기고 id 는 세션 식별자로 전환한다.
+    private void migrateSessionKey() {
+        if (!hasColumn("user_id")) {
+            jdbcTemplate.execute("alter table refresh_token add column user_id bigint");
+        }
+        int backfilled = jdbcTemplate.update("update refresh_token set user_id = id where user_id is null");
+        jdbcTemplate.execute("alter table refresh_token modify column user_id bigint not null");
+        jdbcTemplate.execute("alter table refresh_token modify column id bigint not null auto_increment");
+
+        addColumnIfMissing("subject", "varchar(255)");
+        addColumnIfMissing("role_mask", "integer");
+        addColumnIfMissing("roles_checked_at", "timestamp(6)");
+
+        if (!hasIndex(EXPIRY_DATE_INDEX)) {
+            jdbcTemplate.execute("create index " + EXPIRY_DATE_INDEX + " on refresh_token (expiry_date)");
+        }
+        jdbcTemplate.execute("create index " + USER_ID_INDEX + " on refresh_token (user_id)");
+        log.info("refresh token 세션 키 마이그레이션 완료 : rows={}", backfilled);
+    }
+
+    private void addColumnIfMissing(String column, String definition) {
+        if (!hasColumn(column)) {
+            jdbcTemplate.execute("alter table refresh_token add column " + column + " " + definition);
+        }
+    }
+
+    private boolean hasColumn(String column) {
+        Integer columns = jdbcTemplate.queryForObject(COLUMN_QUERY, Integer.class, column);
+        return columns != null && columns > 0;
+    }
+
+    private boolean hasUniqueIndexOn(String column) {
+        return hasIndexMatching(true, "COLUMN_NAME", column);
+    }
+
+    private boolean hasIndex(String name) {
+        return hasIndexMatching(false, "INDEX_NAME", name);
+    }
+
+    private boolean hasIndexMatching(boolean unique, String attribute, String value) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : List.of(TABLE, TABLE.toUpperCase())) {
+                try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, table, unique, false)) {
+                    while (indexes.next()) {
+                        if (value.equalsIgnoreCase(indexes.getString(attribute))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+
+    private void acquireLock() {
+        long deadline = System.currentTimeMillis() + lockWaitMillis;
+        while (!tryLock()) {
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IllegalStateException("refresh token 마이그레이션 잠금을 얻지 못했습니다. : " + LOCK_NAME);
+            }
+            log.info("다른 노드가 refresh token 마이그레이션을 진행 중입니다. 완료를 기다립니다.");
+            try {
+                Thread.sleep(LOCK_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("refresh token 마이그레이션 잠금 대기가 중단되었습니다.", e);
+            }
+        }
+    }
+
+    private boolean tryLock() {
+        jdbcTemplate.execute("create table if not exists schema_migration_lock ("
+                + "name varchar(64) not null primary key, owner varchar(64) not null, locked_at timestamp not null)");
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("delete from schema_migration_lock where name = ? and locked_at < ?",
+                LOCK_NAME, now.minusNanos(lockLeaseMillis * 1_000_000));
+        try {
+            jdbcTemplate.update("insert into schema_migration_lock (name, owner, locked_at) values (?, ?, ?)",
+                    LOCK_NAME, owner, now);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+}
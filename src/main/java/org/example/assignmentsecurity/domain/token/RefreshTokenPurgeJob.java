@@ -0,0 +1,76 @@
+package org.example.assignmentsecurity.domain.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final Counter purgedRows;
+    private final Timer purgeDuration;
+
+    public RefreshTokenPurgeJob(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${security.refresh-token.purge.batch-size:500}") int batchSize,
+            @Value("${security.refresh-token.purge.pause-ms:50}") long pauseMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.purgedRows = Counter.builder("security.refresh.purge.rows")
+                .register(meterRegistry);
+        this.purgeDuration = Timer.builder("security.refresh.purge.duration")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${security.refresh-token.purge.interval-ms:600000}")
+    public void purge() {
+        int purged = purgeDuration.record(() -> purge(LocalDateTime.now()));
+        if (purged > 0) {
+            log.info("만료된 refresh 토큰 삭제 완료 : rows={}", purged);
+        }
+    }
+
+    private int purge(LocalDateTime now) {
+        int purged = 0;
+        while (true) {
+            List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.ofSize(batchSize));
+            if (ids.isEmpty()) {
+                return purged;
+            }
+
+            int deleted = refreshTokenRepository.deleteExpired(ids, now);
+            purged += deleted;
+            purgedRows.increment(deleted);
+            if (ids.size() < batchSize || !pause()) {
+                return purged;
+            }
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,10 +1,51 @@
 package org.example.assignmentsecurity.domain.token;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
-}
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.tokenHash = :tokenHash")
+    void deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Query("select r.id from RefreshToken r where r.userId = :userId order by r.id desc")
+    List<Long> findSessionIds(@Param("userId") Long userId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.userId = :userId and r.id < :id")
+    int deleteOlderSessions(@Param("userId") Long userId, @Param("id") Long id);
 
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken r set r.roleMask = :roleMask, r.rolesCheckedAt = :rolesCheckedAt where r.tokenHash = :tokenHash")
+    void updateRoles(
+            @Param("tokenHash") String tokenHash,
+            @Param("roleMask") int roleMask,
+            @Param("rolesCheckedAt") LocalDateTime rolesCheckedAt
+    );
+
+    @Query("select r.id from RefreshToken r where r.expiryDate < :now order by r.expiryDate")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.id in :ids and r.expiryDate < :now")
+    int deleteExpired(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,17 @@
+package org.example.assignmentsecurity.domain.token;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenStore {
+
+    void save(RefreshSession session);
+
+    Optional<RefreshSession> findByTokenHash(String tokenHash);
+
+    void updateRoles(String tokenHash, int roleMask, Instant rolesCheckedAt);
+
+    void revoke(String tokenHash);
+
+    void revokeAll(Long userId);
+}
@@ -0,0 +1,26 @@
+package org.example.assignmentsecurity.domain.token;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    @Query("select r from RevokedToken r where r.id > :watermark and r.expiryDate > :now order by r.id")
+    List<RevokedToken> findChangesAfter(
+            @Param("watermark") long watermark,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiryDate < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
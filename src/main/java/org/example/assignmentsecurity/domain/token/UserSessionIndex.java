@@ -0,0 +1,59 @@
+package org.example.assignmentsecurity.domain.token;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class UserSessionIndex {
+
+    private final int maxSessionsPerUser;
+    private final ConcurrentHashMap<Long, ArrayDeque<String>> sessions = new ConcurrentHashMap<>();
+
+    public UserSessionIndex(int maxSessionsPerUser) {
+        this.maxSessionsPerUser = Math.max(1, maxSessionsPerUser);
+    }
+
+    public List<String> add(Long userId, String tokenHash) {
+        List<String> evicted = new ArrayList<>(0);
+        sessions.compute(userId, (key, hashes) -> {
+            ArrayDeque<String> current = hashes != null ? hashes : new ArrayDeque<>();
+            if (!current.contains(tokenHash)) {
+                current.addLast(tokenHash);
+            }
+            while (current.size() > maxSessionsPerUser) {
+                evicted.add(current.pollFirst());
+            }
+            return current;
+        });
+        return evicted;
+    }
+
+    public void track(Long userId, String tokenHash) {
+        sessions.compute(userId, (key, hashes) -> {
+            ArrayDeque<String> current = hashes != null ? hashes : new ArrayDeque<>();
+            current.addLast(tokenHash);
+            return current;
+        });
+    }
+
+    public void remove(Long userId, String tokenHash) {
+        sessions.computeIfPresent(userId, (key, hashes) -> {
+            hashes.remove(tokenHash);
+            return hashes.isEmpty() ? null : hashes;
+        });
+    }
+
+    public List<String> removeAll(Long userId) {
+        ArrayDeque<String> hashes = sessions.remove(userId);
+        return hashes != null ? new ArrayList<>(hashes) : List.of();
+    }
+
+    public void clear() {
+        sessions.clear();
+    }
+
+    public int userCount() {
+        return sessions.size();
+    }
+}
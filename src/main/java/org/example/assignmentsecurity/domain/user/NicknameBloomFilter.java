@@ -0,0 +1,99 @@
+package org.example.assignmentsecurity.domain.user;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.assignmentsecurity.common.util.BloomBits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+@Component
+public class NicknameBloomFilter {
+
+    private final int expectedInsertions;
+    private final double targetFalsePositiveRate;
+
+    private volatile BloomBits current;
+    private volatile BloomBits building;
+    private volatile long watermark;
+
+    public NicknameBloomFilter(
+            @Value("${security.nickname-filter.expected-insertions:100000}") int expectedInsertions,
+            @Value("${security.nickname-filter.false-positive-rate:0.01}") double targetFalsePositiveRate,
+            MeterRegistry meterRegistry
+    ) {
+        this.expectedInsertions = expectedInsertions;
+        this.targetFalsePositiveRate = targetFalsePositiveRate;
+
+        Gauge.builder("security.nickname.filter.fpp", this, NicknameBloomFilter::getFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("security.nickname.filter.bytes", this, NicknameBloomFilter::getMemoryBytes)
+                .register(meterRegistry);
+        Gauge.builder("security.nickname.filter.watermark", this, NicknameBloomFilter::getWatermark)
+                .register(meterRegistry);
+    }
+
+    public boolean mightContain(String nickname) {
+        BloomBits bits = current;
+        return bits == null || nickname == null || bits.mightContain(nickname);
+    }
+
+    public void put(String nickname) {
+        BloomBits bits = current;
+        if (bits != null) {
+            bits.put(nickname);
+        }
+        BloomBits next = building;
+        if (next != null) {
+            next.put(nickname);
+        }
+    }
+
+    public synchronized void rebuild(long expectedSize, Supplier<? extends Collection<String>> loader) {
+        BloomBits next = new BloomBits(Math.max(expectedInsertions, expectedSize * 2), targetFalsePositiveRate);
+        building = next;
+        try {
+            for (String nickname : loader.get()) {
+                next.put(nickname);
+            }
+            current = next;
+        } finally {
+            building = null;
+        }
+    }
+
+    public synchronized void advanceWatermark(long id) {
+        if (id > watermark) {
+            watermark = id;
+        }
+    }
+
+    public boolean isLoaded() {
+        return current != null;
+    }
+
+    public boolean isDegraded() {
+        return current != null && getFalsePositiveRate() > targetFalsePositiveRate * 2;
+    }
+
+    public double getFalsePositiveRate() {
+        BloomBits bits = current;
+        return bits == null ? 1.0 : bits.falsePositiveRate();
+    }
+
+    public long getMemoryBytes() {
+        BloomBits bits = current;
+        return bits == null ? 0L : bits.memoryBytes();
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    public long getInsertions() {
+        BloomBits bits = current;
+        return bits == null ? 0L : bits.insertions();
+    }
+}
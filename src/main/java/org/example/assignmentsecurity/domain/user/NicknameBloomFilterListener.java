@@ -0,0 +1,17 @@
+package org.example.assignmentsecurity.domain.user;
+
+import jakarta.persistence.PostPersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NicknameBloomFilterListener {
+
+    private final NicknameBloomFilter nicknameBloomFilter;
+
+    @PostPersist
+    public void afterPersist(User user) {
+        nicknameBloomFilter.put(user.getNickname());
+    }
+}
@@ -2,14 +2,51 @@ package org.example.assignmentsecurity.domain.user;
 
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 @Getter
 public enum Role {
-    USER("ROLE_USER"),
-    ADMIN("ROLE_ADMIN");
+    USER("ROLE_USER", 1),
+    ADMIN("ROLE_ADMIN", 1 << 1);
+
+    private static final List<List<Role>> ROLES_BY_MASK = new ArrayList<>();
+
+    static {
+        int maskCount = 1 << values().length;
+        for (int mask = 0; mask < maskCount; mask++) {
+            List<Role> roles = new ArrayList<>();
+            for (Role role : values()) {
+                if ((mask & role.mask) != 0) {
+                    roles.add(role);
+                }
+            }
+            ROLES_BY_MASK.add(Collections.unmodifiableList(roles));
+        }
+    }
 
     private final String authorityName;
+    private final int mask;
 
-    Role(String authorityName) {
+    Role(String authorityName, int mask) {
         this.authorityName = authorityName;
+        this.mask = mask;
+    }
+
+    public static List<Role> fromMask(int mask) {
+        if (mask < 0 || mask >= ROLES_BY_MASK.size()) {
+            throw new IllegalArgumentException("알 수 없는 권한 값입니다. : " + mask);
+        }
+        return ROLES_BY_MASK.get(mask);
+    }
+
+    public static Role fromAuthorityName(String authorityName) {
+        for (Role role : values()) {
+            if (role.authorityName.equals(authorityName)) {
+                return role;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 권한입니다. : " + authorityName);
     }
 }
@@ -12,6 +12,7 @@ import java.util.List;
 @Getter
 @Entity
 @Table(name = "users")
+@EntityListeners(NicknameBloomFilterListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
 
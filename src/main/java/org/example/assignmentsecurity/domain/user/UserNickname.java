@@ -0,0 +1,7 @@
+package org.example.assignmentsecurity.domain.user;
+
+public interface UserNickname {
+    Long getId();
+
+    String getNickname();
+}
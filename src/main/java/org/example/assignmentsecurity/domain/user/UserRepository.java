@@ -1,9 +1,35 @@
 package org.example.assignmentsecurity.domain.user;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    @EntityGraph(attributePaths = "authorities")
     Optional<User> findByNickname(String nickname);
+
+    @Query("select u.nickname from User u")
+    List<String> findAllNicknames();
+
+    @Query("select coalesce(max(u.id), 0) from User u")
+    long findMaxId();
+
+    @Query("select u.id as id, u.nickname as nickname from User u where u.id > :watermark order by u.id")
+    List<UserNickname> findNicknamesAfter(@Param("watermark") long watermark, Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :currentPassword")
+    int updatePassword(
+            @Param("id") Long id,
+            @Param("currentPassword") String currentPassword,
+            @Param("newPassword") String newPassword
+    );
 }
@@ -0,0 +1,76 @@
+package org.example.assignmentsecurity.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.assignmentsecurity.domain.user.NicknameBloomFilter;
+import org.example.assignmentsecurity.domain.user.UserNickname;
+import org.example.assignmentsecurity.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+public class NicknameBloomFilterLoader {
+
+    private final UserRepository userRepository;
+    private final NicknameBloomFilter nicknameBloomFilter;
+    private final int batchSize;
+    private final long gapLookback;
+
+    public NicknameBloomFilterLoader(
+            UserRepository userRepository,
+            NicknameBloomFilter nicknameBloomFilter,
+            @Value("${security.nickname-filter.batch-size:1000}") int batchSize,
+            @Value("${security.nickname-filter.gap-lookback:100}") long gapLookback
+    ) {
+        this.userRepository = userRepository;
+        this.nicknameBloomFilter = nicknameBloomFilter;
+        this.batchSize = batchSize;
+        this.gapLookback = gapLookback;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${security.nickname-filter.check-interval-ms:300000}")
+    public void rebuildIfDegraded() {
+        if (nicknameBloomFilter.isDegraded()) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.nickname-filter.poll-interval-ms:5000}")
+    public void poll() {
+        if (!nicknameBloomFilter.isLoaded()) {
+            return;
+        }
+        long from = Math.max(0, nicknameBloomFilter.getWatermark() - gapLookback);
+        List<UserNickname> changes;
+        do {
+            changes = userRepository.findNicknamesAfter(from, PageRequest.of(0, batchSize));
+            for (UserNickname change : changes) {
+                nicknameBloomFilter.put(change.getNickname());
+                from = change.getId();
+            }
+            nicknameBloomFilter.advanceWatermark(from);
+        } while (changes.size() == batchSize);
+    }
+
+    public void rebuild() {
+        long watermark = userRepository.findMaxId();
+        nicknameBloomFilter.rebuild(userRepository.count(), userRepository::findAllNicknames);
+        nicknameBloomFilter.advanceWatermark(watermark);
+        log.info("닉네임 필터 적재 완료 : insertions={}, bytes={}, fpp={}, watermark={}",
+                nicknameBloomFilter.getInsertions(),
+                nicknameBloomFilter.getMemoryBytes(),
+                nicknameBloomFilter.getFalsePositiveRate(),
+                nicknameBloomFilter.getWatermark());
+    }
+}
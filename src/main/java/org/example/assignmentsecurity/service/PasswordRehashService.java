@@ -0,0 +1,40 @@
+package org.example.assignmentsecurity.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.assignmentsecurity.common.error.BusinessException;
+import org.example.assignmentsecurity.config.security.PasswordHashingExecutor;
+import org.example.assignmentsecurity.config.security.PasswordHashingPolicy;
+import org.example.assignmentsecurity.domain.user.User;
+import org.example.assignmentsecurity.domain.user.UserRepository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordRehashService {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingPolicy passwordHashingPolicy;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public void rehashIfNeeded(User user, String rawPassword) {
+        String currentPassword = user.getPassword();
+        if (!passwordHashingPolicy.needsRehash(currentPassword)) {
+            return;
+        }
+
+        try {
+            passwordHashingExecutor.submit(() -> passwordEncoder.encode(rawPassword))
+                    .thenAccept(encodedPassword -> userRepository.updatePassword(user.getId(), currentPassword, encodedPassword))
+                    .exceptionally(ex -> {
+                        log.warn("비밀번호 재해싱 실패 : userId={}, {}", user.getId(), ex.getMessage());
+                        return null;
+                    });
+        } catch (BusinessException e) {
+            log.debug("해싱 대기열이 가득 차 재해싱을 다음 로그인으로 미룹니다. : userId={}", user.getId());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.assignmentsecurity.service;
+
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.domain.token.RefreshSession;
+import org.example.assignmentsecurity.domain.token.RefreshTokenStore;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.example.assignmentsecurity.domain.user.User;
+import org.example.assignmentsecurity.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Service
+public class RoleSnapshotService {
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserRepository userRepository;
+    private final Duration maxAge;
+
+    public RoleSnapshotService(
+            RefreshTokenStore refreshTokenStore,
+            UserRepository userRepository,
+            @Value("${security.refresh-token.role-snapshot.max-age-seconds:600}") long maxAgeSeconds
+    ) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.userRepository = userRepository;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+    }
+
+    public AuthUser toAuthUser(RefreshSession session) {
+        RefreshSession current = session;
+        Instant now = Instant.now();
+        if (session.getRolesCheckedAt().plus(maxAge).isBefore(now)) {
+            current = revalidate(session, now);
+        }
+        return new AuthUser(current.getUserId(), current.getSubject(), Role.fromMask(current.getRoleMask()));
+    }
+
+    private RefreshSession revalidate(RefreshSession session, Instant now) {
+        User user = userRepository.findById(session.getUserId())
+                .orElseThrow(() -> {
+                    refreshTokenStore.revokeAll(session.getUserId());
+                    return SecurityFilterChainException.of(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
+                });
+
+        int roleMask = 0;
+        for (Role role : user.getAuthorities()) {
+            roleMask |= role.getMask();
+        }
+        refreshTokenStore.updateRoles(session.getTokenHash(), roleMask, now);
+        return session.withRoles(roleMask, now);
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.assignmentsecurity.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.assignmentsecurity.common.error.BusinessException;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.TokenBucketLimiter;
+import org.example.assignmentsecurity.config.security.TokenRevocationList;
+import org.example.assignmentsecurity.config.security.VerifiedToken;
+import org.example.assignmentsecurity.controller.dto.resp.TokenIntrospectRespDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class TokenIntrospectionService {
+
+    private static final int PARALLEL_THRESHOLD = 16;
+
+    private final JwtProvider jwtProvider;
+    private final TokenRevocationList tokenRevocationList;
+    private final int maxBatchSize;
+    private final TokenBucketLimiter callerLimiter;
+    private final ForkJoinPool introspectionPool;
+
+    public TokenIntrospectionService(
+            JwtProvider jwtProvider,
+            TokenRevocationList tokenRevocationList,
+            @Value("${jwt.introspection.max-batch-size:100}") int maxBatchSize,
+            @Value("${jwt.introspection.parallelism:0}") int parallelism,
+            @Value("${jwt.introspection.rate-limit.capacity:500}") int rateLimitCapacity,
+            @Value("${jwt.introspection.rate-limit.refill-per-minute:3000}") int rateLimitRefillPerMinute
+    ) {
+        this.jwtProvider = jwtProvider;
+        this.tokenRevocationList = tokenRevocationList;
+        this.maxBatchSize = Math.min(maxBatchSize, rateLimitCapacity);
+        this.callerLimiter = new TokenBucketLimiter(rateLimitCapacity, rateLimitRefillPerMinute, 600, 10000);
+        this.introspectionPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public List<TokenIntrospectRespDto> introspect(String caller, List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            return List.of();
+        }
+        if (tokens.size() > maxBatchSize) {
+            throw BusinessException.of(ErrorCode.INTROSPECTION_BATCH_TOO_LARGE);
+        }
+        if (!callerLimiter.tryAcquire(caller, tokens.size(), System.nanoTime())) {
+            throw BusinessException.of(ErrorCode.TOO_MANY_INTROSPECTION_REQUESTS);
+        }
+        if (tokens.size() < PARALLEL_THRESHOLD) {
+            return tokens.stream().map(this::introspect).toList();
+        }
+
+        return introspectionPool.submit(() -> tokens.parallelStream().map(this::introspect).toList()).join();
+    }
+
+    private TokenIntrospectRespDto introspect(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenIntrospectRespDto.inactive(ErrorCode.INVALID_JWT_TOKEN);
+        }
+
+        try {
+            VerifiedToken verifiedToken = jwtProvider.verifyBearer(token);
+            if (tokenRevocationList.isRevoked(verifiedToken.getJti())) {
+                return TokenIntrospectRespDto.inactive(ErrorCode.REVOKED_JWT_TOKEN);
+            }
+            return TokenIntrospectRespDto.active(verifiedToken);
+        } catch (SecurityFilterChainException e) {
+            return TokenIntrospectRespDto.inactive(e.getErrorCode());
+        } catch (RuntimeException e) {
+            return TokenIntrospectRespDto.inactive(ErrorCode.INVALID_JWT_TOKEN);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.introspection.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleCallers() {
+        callerLimiter.evictIdle(System.nanoTime());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        introspectionPool.shutdown();
+    }
+}
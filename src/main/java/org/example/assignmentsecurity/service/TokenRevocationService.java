@@ -0,0 +1,122 @@
+package org.example.assignmentsecurity.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.assignmentsecurity.common.error.BusinessException;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.TokenRevocationList;
+import org.example.assignmentsecurity.config.security.VerifiedToken;
+import org.example.assignmentsecurity.domain.token.RevokedToken;
+import org.example.assignmentsecurity.domain.token.RevokedTokenRepository;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final JwtProvider jwtProvider;
+    private final int batchSize;
+    private final long gapLookback;
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository,
+            TokenRevocationList tokenRevocationList,
+            JwtProvider jwtProvider,
+            @Value("${security.token-revocation.batch-size:1000}") int batchSize,
+            @Value("${security.token-revocation.gap-lookback:100}") long gapLookback
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.jwtProvider = jwtProvider;
+        this.batchSize = batchSize;
+        this.gapLookback = gapLookback;
+    }
+
+    public void revoke(AuthUser caller, String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtProvider.verifyBearer(token);
+        } catch (SecurityFilterChainException e) {
+            return;
+        }
+
+        if (!caller.getNickname().equals(verifiedToken.getAuthUser().getNickname()) && !isAdmin(caller)) {
+            throw BusinessException.of(ErrorCode.TOKEN_OWNER_MISMATCH);
+        }
+
+        String jti = verifiedToken.getJti();
+        if (jti == null || tokenRevocationList.isRevoked(jti)) {
+            return;
+        }
+
+        tokenRevocationList.add(jti, verifiedToken.getExpiresAt());
+        try {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .jti(jti)
+                    .expiryDate(LocalDateTime.ofInstant(Instant.ofEpochMilli(verifiedToken.getExpiresAt()), ZoneId.systemDefault()))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("이미 폐기된 토큰입니다. : jti={}", jti);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        poll();
+        log.info("토큰 폐기 목록 적재 완료 : size={}, watermark={}",
+                tokenRevocationList.size(), tokenRevocationList.getWatermark());
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-revocation.poll-interval-ms:5000}")
+    public void poll() {
+        long from = Math.max(0, tokenRevocationList.getWatermark() - gapLookback);
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> changes;
+        do {
+            changes = revokedTokenRepository.findChangesAfter(from, now, PageRequest.of(0, batchSize));
+            for (RevokedToken revokedToken : changes) {
+                tokenRevocationList.add(revokedToken.getJti(), toEpochMilli(revokedToken.getExpiryDate()));
+                from = revokedToken.getId();
+            }
+            tokenRevocationList.advanceWatermark(from);
+        } while (changes.size() == batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-revocation.purge-interval-ms:600000}")
+    public void purge() {
+        int pruned = tokenRevocationList.prune(System.currentTimeMillis());
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (pruned > 0 || deleted > 0) {
+            log.info("만료된 토큰 폐기 정보 정리 : pruned={}, deleted={}", pruned, deleted);
+        }
+    }
+
+    private static boolean isAdmin(AuthUser authUser) {
+        return authUser.getAuthorities().stream()
+                .anyMatch(authority -> Role.ADMIN.getAuthorityName().equals(authority.getAuthority()));
+    }
+
+    private static long toEpochMilli(LocalDateTime localDateTime) {
+        return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
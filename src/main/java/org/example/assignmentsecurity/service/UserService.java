@@ -3,38 +3,52 @@ package org.example.assignmentsecurity.service;
 import lombok.RequiredArgsConstructor;
 import org.example.assignmentsecurity.common.error.BusinessException;
 import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.config.security.PasswordHashingExecutor;
 import org.example.assignmentsecurity.controller.dto.rep.UserCreateRepDto;
 import org.example.assignmentsecurity.controller.dto.resp.UserCreateRespDto;
 import org.example.assignmentsecurity.controller.dto.resp.UserInfoRespDto;
+import org.example.assignmentsecurity.domain.user.NicknameBloomFilter;
 import org.example.assignmentsecurity.domain.user.User;
 import org.example.assignmentsecurity.domain.user.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final NicknameBloomFilter nicknameBloomFilter;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
-    @Transactional
-    public UserCreateRespDto register(UserCreateRepDto dto) {
-        String encodedPassword = passwordEncoder.encode(dto.getPassword());
+    public CompletableFuture<UserCreateRespDto> register(UserCreateRepDto dto) {
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(dto.getPassword()))
+                .thenApply(encodedPassword -> save(dto, encodedPassword));
+    }
 
-        userRepository.findByNickname(dto.getNickname())
-                .ifPresent(user -> {
-                    throw new BusinessException(ErrorCode.EXISTS_ALREADY_USER);
-                });
+    private UserCreateRespDto save(UserCreateRepDto dto, String encodedPassword) {
+        if (nicknameBloomFilter.mightContain(dto.getNickname())) {
+            userRepository.findByNickname(dto.getNickname())
+                    .ifPresent(user -> {
+                        throw BusinessException.of(ErrorCode.EXISTS_ALREADY_USER);
+                    });
+        }
 
         User user = UserCreateRepDto.from(dto, encodedPassword);
-        User savedUser = userRepository.save(user);
-        return new UserCreateRespDto(savedUser);
+        try {
+            User savedUser = userRepository.save(user);
+            return new UserCreateRespDto(savedUser);
+        } catch (DataIntegrityViolationException e) {
+            throw BusinessException.of(ErrorCode.EXISTS_ALREADY_USER);
+        }
     }
 
     public UserInfoRespDto findUser(String nickname) {
         User findUser = userRepository.findByNickname(nickname)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+                .orElseThrow(() -> BusinessException.of(ErrorCode.USER_NOT_FOUND));
 
         return new UserInfoRespDto(findUser);
     }
@@ -0,0 +1,42 @@
+package org.example.assignmentsecurity.common;
+
+import org.example.assignmentsecurity.common.error.BusinessException;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StacklessExceptionTest {
+
+    @Test
+    @DisplayName("예상된 실패는 ErrorCode 별로 캐시된 스택 없는 예외를 사용한다.")
+    void stacklessTest() {
+        // when
+        SecurityFilterChainException securityException = SecurityFilterChainException.of(ErrorCode.TOKEN_NOT_FOUND);
+        BusinessException businessException = BusinessException.of(ErrorCode.USER_NOT_FOUND);
+
+        // then
+        assertThat(SecurityFilterChainException.of(ErrorCode.TOKEN_NOT_FOUND)).isSameAs(securityException);
+        assertThat(securityException.getStackTrace()).isEmpty();
+        assertThat(securityException.getErrorCode()).isEqualTo(ErrorCode.TOKEN_NOT_FOUND);
+        assertThat(securityException.getMessage()).isEqualTo(ErrorCode.TOKEN_NOT_FOUND.getMessage());
+
+        assertThat(BusinessException.of(ErrorCode.USER_NOT_FOUND)).isSameAs(businessException);
+        assertThat(businessException.getStackTrace()).isEmpty();
+        assertThat(businessException.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("생성자로 만든 예외는 스택 트레이스를 유지한다.")
+    void stackTraceTest() {
+        // when
+        SecurityFilterChainException securityException = new SecurityFilterChainException(ErrorCode.SERVER_ERROR);
+        BusinessException businessException = new BusinessException(ErrorCode.SERVER_ERROR);
+
+        // then
+        assertThat(securityException.getStackTrace()).isNotEmpty();
+        assertThat(businessException.getStackTrace()).isNotEmpty();
+    }
+}
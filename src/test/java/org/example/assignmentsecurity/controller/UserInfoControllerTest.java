@@ -2,6 +2,7 @@ package org.example.assignmentsecurity.controller;
 
 import org.example.assignmentsecurity.common.error.BusinessException;
 import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.format.ErrorResponseBodies;
 import org.example.assignmentsecurity.config.security.AuthUser;
 import org.example.assignmentsecurity.config.security.LoginAuthentication;
 import org.example.assignmentsecurity.controller.dto.resp.UserInfoRespDto;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -28,6 +30,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 
 @WebMvcTest(value = UserController.class)
+@Import(ErrorResponseBodies.class)
 @AutoConfigureMockMvc(addFilters = false)
 public class UserInfoControllerTest {
 
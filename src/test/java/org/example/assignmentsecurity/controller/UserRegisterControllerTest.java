@@ -3,6 +3,7 @@ package org.example.assignmentsecurity.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.assignmentsecurity.common.error.BusinessException;
 import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.format.ErrorResponseBodies;
 import org.example.assignmentsecurity.controller.dto.rep.UserCreateRepDto;
 import org.example.assignmentsecurity.controller.dto.resp.UserCreateRespDto;
 import org.example.assignmentsecurity.domain.user.Role;
@@ -13,20 +14,26 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
+@Import(ErrorResponseBodies.class)
 @AutoConfigureMockMvc(addFilters = false)
 class UserRegisterControllerTest {
 
@@ -79,12 +86,16 @@ class UserRegisterControllerTest {
         UserCreateRespDto respDto = new UserCreateRespDto(user);
 
         given(userService.register(any(UserCreateRepDto.class)))
-                .willReturn(respDto);
+                .willReturn(CompletableFuture.completedFuture(respDto));
 
         // when & then
-        mockMvc.perform(post("/auth/signup")
+        MvcResult mvcResult = mockMvc.perform(post("/auth/signup")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(repDto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.username").value(repDto.getUsername()))
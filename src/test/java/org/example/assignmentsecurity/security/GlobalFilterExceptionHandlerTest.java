@@ -0,0 +1,42 @@
+package org.example.assignmentsecurity.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.format.ErrorResponseBodies;
+import org.example.assignmentsecurity.config.security.event.SecurityEventPublisher;
+import org.example.assignmentsecurity.config.security.filter.GlobalFilterExceptionHandler;
+import org.example.assignmentsecurity.config.security.filter.SecurityRoute;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(OutputCaptureExtension.class)
+class GlobalFilterExceptionHandlerTest {
+
+    @Test
+    @DisplayName("예기치 않은 예외는 이벤트가 샘플링되어도 스택 트레이스와 함께 항상 에러 로그로 남는다.")
+    void logUnexpectedExceptionTest(CapturedOutput output) throws Exception {
+        // given
+        SecurityEventPublisher publisher = new SecurityEventPublisher(1, 0, new SimpleMeterRegistry());
+        GlobalFilterExceptionHandler handler = new GlobalFilterExceptionHandler(new ErrorResponseBodies(new ObjectMapper()), publisher);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            handler.handle(request, response, SecurityRoute.PROTECTED, new IllegalStateException("unexpected-" + i));
+            assertThat(response.getStatus()).isEqualTo(ErrorCode.SERVER_ERROR.getStatus());
+        }
+
+        // then
+        assertThat(publisher.getDroppedCount()).isEqualTo(1);
+        assertThat(output).contains("java.lang.IllegalStateException: unexpected-0", "java.lang.IllegalStateException: unexpected-1");
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.assignmentsecurity.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.HmacJwtFastVerifier;
+import org.example.assignmentsecurity.config.security.HmacJwtSigner;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.LoginAuthentication;
+import org.example.assignmentsecurity.config.security.VerifiedToken;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.config.security.key.JwtKeyStore;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HmacJwtFastVerifierTest {
+
+    private static final String SECRET_KEY = "YyZ1a2b3c4d5e6f7g8h9i0j1k2l3m4n5o6p7q8r9s0t1u2v3w4x5y6z7A8B9C0D1";
+
+    private JwtProvider jwtProvider;
+    private HmacJwtFastVerifier hmacJwtFastVerifier;
+
+    @BeforeEach
+    void init() {
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, "hs-1", SignatureAlgorithm.HS256, "", "", 2592000, 0, 300, new JwtKeyStore(""));
+        jwtKeyRing.init();
+        hmacJwtFastVerifier = new HmacJwtFastVerifier(jwtKeyRing, true);
+        jwtProvider = new JwtProvider(jwtKeyRing, hmacJwtFastVerifier, new HmacJwtSigner(jwtKeyRing, true));
+        jwtProvider.init();
+    }
+
+    @Test
+    @DisplayName("정상 토큰은 fast path 에서 jjwt 와 같은 결과로 검증된다.")
+    void fastPathSuccessTest() {
+        // given
+        AuthUser authUser = new AuthUser("스프링", List.of(Role.USER, Role.ADMIN));
+        String tokenValue = jwtProvider.generateAccessToken(new LoginAuthentication(authUser));
+
+        // when
+        VerifiedToken fastPath = hmacJwtFastVerifier.verify(tokenValue, JwtProvider.TOKEN_PREFIX.length());
+        VerifiedToken jjwt = jwtProvider.verify(tokenValue.substring(JwtProvider.TOKEN_PREFIX.length()));
+
+        // then
+        assertThat(fastPath).isNotNull();
+        assertThat(fastPath.getAuthUser().getNickname()).isEqualTo(jjwt.getAuthUser().getNickname());
+        assertThat(fastPath.getAuthUser().getAuthorities()).isEqualTo(jjwt.getAuthUser().getAuthorities());
+        assertThat(fastPath.getExpiresAt()).isEqualTo(jjwt.getExpiresAt());
+        assertThat(fastPath.getJti()).isNotNull().isEqualTo(jjwt.getJti());
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 fast path 에서 거부되고 기존 예외로 처리된다.")
+    void tamperedTokenFailTest() {
+        // given
+        String tokenValue = jwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("test", List.of(Role.USER))));
+        int signatureStart = tokenValue.lastIndexOf('.') + 1;
+        char first = tokenValue.charAt(signatureStart);
+        String tampered = tokenValue.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A') + tokenValue.substring(signatureStart + 1);
+
+        // when & then
+        assertThat(hmacJwtFastVerifier.verify(tampered, JwtProvider.TOKEN_PREFIX.length())).isNull();
+        assertThatThrownBy(() -> jwtProvider.verifyBearer(tampered))
+                .isInstanceOf(SecurityFilterChainException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_JWT_SIGNATURE);
+    }
+
+    @Test
+    @DisplayName("마지막 문자의 남는 비트가 0 이 아닌 서명은 fast path 에서 거부된다.")
+    void nonCanonicalSignatureFailTest() {
+        // given
+        String tokenValue = jwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("test", List.of(Role.USER))));
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        char last = tokenValue.charAt(tokenValue.length() - 1);
+        char nonCanonical = alphabet.charAt(alphabet.indexOf(last) | 1);
+        String tampered = tokenValue.substring(0, tokenValue.length() - 1) + nonCanonical;
+
+        // when & then
+        assertThat(hmacJwtFastVerifier.verify(tokenValue, JwtProvider.TOKEN_PREFIX.length())).isNotNull();
+        assertThat(hmacJwtFastVerifier.verify(tampered, JwtProvider.TOKEN_PREFIX.length())).isNull();
+        assertThatThrownBy(() -> jwtProvider.verifyBearer(tampered))
+                .isInstanceOf(SecurityFilterChainException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.assignmentsecurity.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.example.assignmentsecurity.config.security.HmacJwtSigner;
+import org.example.assignmentsecurity.config.security.RoleClaim;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.config.security.key.JwtKeyStore;
+import org.example.assignmentsecurity.config.security.key.JwtSigningKey;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HmacJwtSignerTest {
+
+    private static final String SECRET_KEY = "YyZ1a2b3c4d5e6f7g8h9i0j1k2l3m4n5o6p7q8r9s0t1u2v3w4x5y6z7A8B9C0D1";
+
+    @Test
+    @DisplayName("사전 계산된 헤더로 서명한 토큰은 jjwt 로 발급한 토큰과 동일하다.")
+    void signSameAsJjwtTest() {
+        // given
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, "hs-1", SignatureAlgorithm.HS256, "", "", 2592000, 0, 300, new JwtKeyStore(""));
+        jwtKeyRing.init();
+        HmacJwtSigner hmacJwtSigner = new HmacJwtSigner(jwtKeyRing, true);
+        JwtSigningKey hmacKey = jwtKeyRing.getHmacKey();
+        long expiresAt = (System.currentTimeMillis() / 1000 + 3600) * 1000;
+
+        // when
+        String token = hmacJwtSigner.sign("6f1c2b1e-3a4d-4e5f-8a9b-0c1d2e3f4a5b", "스프링 \"test\"", Role.USER.getMask(), expiresAt);
+
+        // then
+        String expected = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, hmacKey.getKid())
+                .setId("6f1c2b1e-3a4d-4e5f-8a9b-0c1d2e3f4a5b")
+                .setSubject("스프링 \"test\"")
+                .claim(RoleClaim.NAME, Role.USER.getMask())
+                .setExpiration(new Date(expiresAt))
+                .signWith(hmacKey.getSigningKey(), SignatureAlgorithm.HS256)
+                .compact();
+        assertThat(token).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("제어 문자가 포함된 subject 도 jjwt(Jackson) 와 같은 방식으로 이스케이프된다.")
+    void escapeControlCharactersSameAsJjwtTest() {
+        // given
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, "hs-1", SignatureAlgorithm.HS256, "", "", 2592000, 0, 300, new JwtKeyStore(""));
+        jwtKeyRing.init();
+        HmacJwtSigner hmacJwtSigner = new HmacJwtSigner(jwtKeyRing, true);
+        JwtSigningKey hmacKey = jwtKeyRing.getHmacKey();
+        long expiresAt = (System.currentTimeMillis() / 1000 + 3600) * 1000;
+        String subject = "a\b\t\n\f\r\u0000\u001b\u001f\\/\"z";
+
+        // when
+        String token = hmacJwtSigner.sign("6f1c2b1e-3a4d-4e5f-8a9b-0c1d2e3f4a5b", subject, Role.USER.getMask(), expiresAt);
+
+        // then
+        String expected = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, hmacKey.getKid())
+                .setId("6f1c2b1e-3a4d-4e5f-8a9b-0c1d2e3f4a5b")
+                .setSubject(subject)
+                .claim(RoleClaim.NAME, Role.USER.getMask())
+                .setExpiration(new Date(expiresAt))
+                .signWith(hmacKey.getSigningKey(), SignatureAlgorithm.HS256)
+                .compact();
+        assertThat(token).isEqualTo(expected);
+    }
+}
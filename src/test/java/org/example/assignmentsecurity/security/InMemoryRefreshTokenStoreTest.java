@@ -0,0 +1,119 @@
+package org.example.assignmentsecurity.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.assignmentsecurity.domain.token.HierarchicalTimingWheel;
+import org.example.assignmentsecurity.domain.token.InMemoryRefreshTokenStore;
+import org.example.assignmentsecurity.domain.token.RefreshSession;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenStoreTest {
+
+    @Test
+    @DisplayName("유저별 최대 세션 수를 넘으면 가장 오래된 refreshToken 이 제거된다.")
+    void replacePreviousSessionTest() {
+        // given
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(4, 100, 1000, 1, new SimpleMeterRegistry());
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        // when
+        store.save(session(1L, "first", expiresAt));
+        store.save(session(1L, "second", expiresAt));
+
+        // then
+        assertThat(store.findByTokenHash("first")).isEmpty();
+        assertThat(store.findByTokenHash("second")).hasValueSatisfying(session -> assertThat(session.getUserId()).isEqualTo(1L));
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 refreshToken 은 타이밍 휠에 의해 제거된다.")
+    void expireByTimingWheelTest() {
+        // given
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(4, 100, 1000, 1, new SimpleMeterRegistry());
+        long now = System.currentTimeMillis();
+        store.save(session(1L, "short", Instant.ofEpochMilli(now + 5_000)));
+        store.save(session(2L, "long", Instant.ofEpochMilli(now + 600_000)));
+
+        // when
+        store.expire(now + 3_000);
+        boolean aliveBeforeExpiry = store.findByTokenHash("short").isPresent();
+        store.expire(now + 7_000);
+
+        // then
+        assertThat(aliveBeforeExpiry).isTrue();
+        assertThat(store.findByTokenHash("short")).isEmpty();
+        assertThat(store.findByTokenHash("long")).isPresent();
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래된 refreshToken 부터 제거된다.")
+    void evictEldestTest() {
+        // given
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(1, 2, 1000, 1, new SimpleMeterRegistry());
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        // when
+        store.save(session(1L, "a", expiresAt));
+        store.save(session(2L, "b", expiresAt));
+        store.save(session(3L, "c", expiresAt));
+
+        // then
+        assertThat(store.findByTokenHash("a")).isEmpty();
+        assertThat(store.findByTokenHash("b")).isPresent();
+        assertThat(store.findByTokenHash("c")).isPresent();
+    }
+
+    @Test
+    @DisplayName("유저의 모든 세션을 한 번에 폐기한다.")
+    void revokeAllTest() {
+        // given
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(4, 100, 1000, 3, new SimpleMeterRegistry());
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        store.save(session(1L, "web", expiresAt));
+        store.save(session(1L, "mobile", expiresAt));
+        store.save(session(2L, "other", expiresAt));
+
+        // when
+        store.revokeAll(1L);
+
+        // then
+        assertThat(store.findByTokenHash("web")).isEmpty();
+        assertThat(store.findByTokenHash("mobile")).isEmpty();
+        assertThat(store.findByTokenHash("other")).isPresent();
+    }
+
+    @Test
+    @DisplayName("타이밍 휠은 여러 단계에 걸친 만료 시각을 정확한 틱에 만료시킨다.")
+    void timingWheelCascadeTest() {
+        // given
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1, 0);
+        List<Long> deadlines = List.of(1L, 63L, 64L, 65L, 4_095L, 4_096L, 70_000L, 300_000L, 17_000_000L);
+        deadlines.forEach(deadline -> wheel.schedule(deadline, deadline));
+        HierarchicalTimingWheel.Timeout<Long> cancelled = wheel.schedule(-1L, 100L);
+        wheel.cancel(cancelled);
+
+        // when
+        List<Long> expiredAt = new ArrayList<>();
+        for (long tick = 1; tick <= 17_000_000L; tick++) {
+            for (Long key : wheel.advance(tick)) {
+                assertThat(key).isEqualTo(tick);
+                expiredAt.add(key);
+            }
+        }
+
+        // then
+        assertThat(expiredAt).containsExactlyElementsOf(deadlines);
+        assertThat(wheel.size()).isZero();
+    }
+
+    private static RefreshSession session(Long userId, String tokenHash, Instant expiresAt) {
+        return new RefreshSession(userId, tokenHash, "user" + userId, 1, Instant.now(), expiresAt);
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.assignmentsecurity.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.LoginAuthentication;
+import org.example.assignmentsecurity.controller.dto.rep.TokenIntrospectRepDto;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class IntrospectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Test
+    @DisplayName("여러 토큰을 일괄 검증하면 토큰별 검증 결과를 순서대로 반환한다.")
+    void introspectSuccessTest() throws Exception {
+        // given
+        String accessToken = jwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("test", List.of(Role.USER))));
+        List<String> tokens = new ArrayList<>(Collections.nCopies(20, accessToken));
+        tokens.add("12312asqwer");
+
+        // when
+        ResultActions result = mockMvc.perform(post("/auth/introspect")
+                .header(JwtProvider.AUTHENTICATION_HEADER_PREFIX, adminToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TokenIntrospectRepDto(tokens))));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(21))
+                .andExpect(jsonPath("$.data[0].active").value(true))
+                .andExpect(jsonPath("$.data[0].subject").value("test"))
+                .andExpect(jsonPath("$.data[0].roles[0]").value(Role.USER.getAuthorityName()))
+                .andExpect(jsonPath("$.data[19].active").value(true))
+                .andExpect(jsonPath("$.data[20].active").value(false))
+                .andExpect(jsonPath("$.data[20].error").value(ErrorCode.INVALID_JWT_SIGNATURE.name()))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 초과한 토큰을 검증 요청하면 예외가 발생한다.")
+    void introspectBatchTooLargeFailTest() throws Exception {
+        // given
+        List<String> tokens = Collections.nCopies(101, "token");
+
+        // when
+        ResultActions result = mockMvc.perform(post("/auth/introspect")
+                .header(JwtProvider.AUTHENTICATION_HEADER_PREFIX, adminToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TokenIntrospectRepDto(tokens))));
+
+        // then
+        result.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error.message").value(ErrorCode.INTROSPECTION_BATCH_TOO_LARGE.getMessage()));
+    }
+
+    @Test
+    @DisplayName("ADMIN 권한이 없는 사용자가 토큰 검증을 요청하면 거부된다.")
+    void introspectForbiddenTest() throws Exception {
+        // given
+        String userToken = jwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("test", List.of(Role.USER))));
+
+        // when
+        ResultActions anonymous = mockMvc.perform(post("/auth/introspect")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TokenIntrospectRepDto(List.of(userToken)))));
+        ResultActions user = mockMvc.perform(post("/auth/introspect")
+                .header(JwtProvider.AUTHENTICATION_HEADER_PREFIX, userToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TokenIntrospectRepDto(List.of(userToken)))));
+
+        // then
+        anonymous.andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error.message").value(ErrorCode.TOKEN_NOT_FOUND.getMessage()));
+        user.andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("검증한 토큰 수가 호출자별 한도를 넘으면 429 예외가 발생한다.")
+    void introspectRateLimitTest() throws Exception {
+        // given
+        String adminToken = jwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("rate-limited-admin", List.of(Role.ADMIN))));
+        String body = objectMapper.writeValueAsString(new TokenIntrospectRepDto(Collections.nCopies(100, "token")));
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/auth/introspect")
+                            .header(JwtProvider.AUTHENTICATION_HEADER_PREFIX, adminToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk());
+        }
+
+        // when
+        ResultActions result = mockMvc.perform(post("/auth/introspect")
+                .header(JwtProvider.AUTHENTICATION_HEADER_PREFIX, adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+
+        // then
+        result.andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.error.message").value(ErrorCode.TOO_MANY_INTROSPECTION_REQUESTS.getMessage()));
+    }
+
+    private String adminToken() {
+        return jwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("admin", List.of(Role.ADMIN))));
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.assignmentsecurity.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.assignmentsecurity.common.util.TokenDigest;
+import org.example.assignmentsecurity.domain.token.JournalRefreshTokenStore;
+import org.example.assignmentsecurity.domain.token.RefreshSession;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalRefreshTokenStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("재시작 후에도 저널을 재생하여 refresh 세션이 복구된다.")
+    void recoverAfterRestartTest() {
+        // given
+        String first = TokenDigest.sha256Hex("first");
+        String second = TokenDigest.sha256Hex("second");
+        String revoked = TokenDigest.sha256Hex("revoked");
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        JournalRefreshTokenStore store = open(4096);
+        store.save(session(1L, first, expiresAt));
+        store.save(session(1L, second, expiresAt));
+        store.save(session(2L, revoked, expiresAt));
+        store.revoke(revoked);
+        store.updateRoles(second, 1, Instant.now());
+        store.close();
+
+        // when
+        JournalRefreshTokenStore recovered = open(4096);
+
+        // then
+        assertThat(recovered.findByTokenHash(first)).isEmpty();
+        assertThat(recovered.findByTokenHash(revoked)).isEmpty();
+        assertThat(recovered.findByTokenHash(second)).hasValueSatisfying(session -> {
+            assertThat(session.getUserId()).isEqualTo(1L);
+            assertThat(session.getSubject()).isEqualTo("user1");
+            assertThat(session.getRoleMask()).isEqualTo(1);
+            assertThat(session.getExpiresAt()).isEqualTo(Instant.ofEpochMilli(expiresAt.toEpochMilli()));
+        });
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("압축 시 만료된 기록은 버리고 유효한 세션만 새 세그먼트로 옮긴다.")
+    void compactTest() {
+        // given
+        long now = System.currentTimeMillis();
+        JournalRefreshTokenStore store = open(4096);
+        for (long userId = 1; store.segmentCount() == 1; userId++) {
+            store.save(session(userId, TokenDigest.sha256Hex("expired" + userId), Instant.ofEpochMilli(now - 1_000)));
+        }
+        String alive = TokenDigest.sha256Hex("alive");
+        store.save(session(0L, alive, Instant.ofEpochMilli(now + 60_000)));
+        int segmentsBeforeCompaction = store.segmentCount();
+
+        // when
+        store.compact(now);
+        store.close();
+        JournalRefreshTokenStore recovered = open(4096);
+
+        // then
+        assertThat(segmentsBeforeCompaction).isEqualTo(2);
+        assertThat(recovered.segmentCount()).isEqualTo(1);
+        assertThat(recovered.size()).isEqualTo(1);
+        assertThat(recovered.findByTokenHash(alive)).isPresent();
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("압축으로 기록 순서가 바뀌어도 재시작 후 세션 수 제한으로 밀려난 세션은 복구되지 않는다.")
+    void capEvictionSurvivesCompactionTest() {
+        // given
+        long now = System.currentTimeMillis();
+        String first = TokenDigest.sha256Hex("first");
+        String second = TokenDigest.sha256Hex("second");
+        String third = TokenDigest.sha256Hex("third");
+        JournalRefreshTokenStore store = open(4096, 2);
+        store.save(session(1L, first, Instant.ofEpochMilli(now + 60_000)));
+        for (long userId = 2; store.segmentCount() == 1; userId++) {
+            store.save(session(userId, TokenDigest.sha256Hex("expired" + userId), Instant.ofEpochMilli(now - 1_000)));
+        }
+        store.save(session(1L, second, Instant.ofEpochMilli(now + 61_000)));
+        store.compact(now);
+
+        // when
+        store.save(session(1L, third, Instant.ofEpochMilli(now + 62_000)));
+        store.close();
+        JournalRefreshTokenStore recovered = open(4096, 2);
+
+        // then
+        assertThat(recovered.findByTokenHash(first)).isEmpty();
+        assertThat(recovered.findByTokenHash(second)).isPresent();
+        assertThat(recovered.findByTokenHash(third)).isPresent();
+        recovered.close();
+    }
+
+    private JournalRefreshTokenStore open(int segmentSize) {
+        return open(segmentSize, 1);
+    }
+
+    private JournalRefreshTokenStore open(int segmentSize, int maxSessionsPerUser) {
+        return new JournalRefreshTokenStore(directory.toString(), segmentSize, 0.5, maxSessionsPerUser, new SimpleMeterRegistry());
+    }
+
+    private static RefreshSession session(Long userId, String tokenHash, Instant expiresAt) {
+        return new RefreshSession(userId, tokenHash, "user" + userId, 1, Instant.now(), expiresAt);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.assignmentsecurity.security;
+
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.LoginAuthentication;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.config.security.key.JwtSigningKey;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"jwt.signing.algorithm=ES256", "jwt.signing.publish-lead-seconds=0"})
+@AutoConfigureMockMvc
+public class JwksTest {
+
+    @TempDir
+    private static Path keyStoreDirectory;
+
+    @DynamicPropertySource
+    static void keyStore(DynamicPropertyRegistry registry) {
+        registry.add("jwt.signing.key-store.directory", keyStoreDirectory::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+
+    @Test
+    @DisplayName("JWKS 조회 시 현재 서명 키의 공개 키와 캐시 헤더를 반환한다.")
+    void jwksSuccessTest() throws Exception {
+        // given
+        String kid = jwtKeyRing.getActiveKey().getKid();
+
+        // when & then
+        MvcResult result = mockMvc.perform(get("/auth/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.keys[?(@.kid == '" + kid + "')].kty").value("EC"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age")))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andDo(print())
+                .andReturn();
+
+        mockMvc.perform(get("/auth/.well-known/jwks.json")
+                        .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("서명 키를 교체해도 이전 키로 발급된 토큰은 검증된다.")
+    void rotateKeySuccessTest() {
+        // given
+        LoginAuthentication loginAuthentication = new LoginAuthentication(new AuthUser("test", List.of(Role.USER)));
+        String token = jwtProvider.generateAccessToken(loginAuthentication).replace(JwtProvider.TOKEN_PREFIX, "");
+
+        // when
+        JwtSigningKey rotatedKey = jwtKeyRing.rotate();
+        String rotatedToken = jwtProvider.generateAccessToken(loginAuthentication).replace(JwtProvider.TOKEN_PREFIX, "");
+
+        // then
+        assertThat(jwtProvider.verify(token).getAuthUser().getNickname()).isEqualTo("test");
+        assertThat(jwtProvider.verify(rotatedToken).getAuthUser().getNickname()).isEqualTo("test");
+        assertThat(jwtKeyRing.getActiveKey().getKid()).isEqualTo(rotatedKey.getKid());
+    }
+}
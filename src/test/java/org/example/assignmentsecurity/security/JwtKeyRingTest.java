@@ -0,0 +1,107 @@
+package org.example.assignmentsecurity.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.assignmentsecurity.config.security.key.JwtKeyRing;
+import org.example.assignmentsecurity.config.security.key.JwtKeyStore;
+import org.example.assignmentsecurity.config.security.key.JwtSigningKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET_KEY = "YyZ1a2b3c4d5e6f7g8h9i0j1k2l3m4n5o6p7q8r9s0t1u2v3w4x5y6z7A8B9C0D1";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("한 노드에서 교체한 서명 키는 공유 키 저장소를 통해 다른 노드에 먼저 게시된 뒤 활성화된다.")
+    void rotateAcrossNodesTest() {
+        // given
+        JwtKeyRing node1 = open(0, 3600);
+        JwtKeyRing node2 = open(0, 3600);
+        String initialKid = node1.getActiveKey().getKid();
+
+        // when
+        JwtSigningKey rotatedKey = node1.rotate();
+        node2.refresh();
+
+        // then
+        assertThat(node2.getActiveKey().getKid()).isEqualTo(initialKid);
+        assertThat(node1.getActiveKey().getKid()).isEqualTo(initialKid);
+        assertThat(node2.resolveVerificationKey(rotatedKey.getKid(), SignatureAlgorithm.ES256.getValue()))
+                .isEqualTo(rotatedKey.getVerificationKey());
+        assertThat(node2.getJwks().get("keys").toString()).contains(rotatedKey.getKid());
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 이전 서명 키는 갱신 시 키 저장소와 검증 키 목록에서 제거된다.")
+    void pruneRetiredKeyTest() throws InterruptedException {
+        // given
+        JwtKeyRing node1 = open(0, 0);
+        JwtKeyRing node2 = open(0, 0);
+        String retiredKid = node1.getActiveKey().getKid();
+        Thread.sleep(5);
+
+        // when
+        JwtSigningKey rotatedKey = node1.rotate();
+        node2.refresh();
+
+        // then
+        assertThat(node1.getActiveKey().getKid()).isEqualTo(rotatedKey.getKid());
+        assertThat(node2.getActiveKey().getKid()).isEqualTo(rotatedKey.getKid());
+        assertThat(new JwtKeyStore(directory.toString()).list()).hasSize(1);
+        assertThatThrownBy(() -> node2.resolveVerificationKey(retiredKid, SignatureAlgorithm.ES256.getValue()))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("공유 키 저장소 없이 교체하면 예외가 발생한다.")
+    void rotateWithoutKeyStoreFailTest() {
+        // given
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, "hs-1", SignatureAlgorithm.ES256, "", "", 0, 0, 0, new JwtKeyStore(""));
+        jwtKeyRing.init();
+
+        // when & then
+        assertThatThrownBy(jwtKeyRing::rotate).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("HMAC 키 식별자는 비밀 키가 아닌 설정된 값을 사용한다.")
+    void hmacKidFromConfigurationTest() {
+        // given
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, "hs-2026", SignatureAlgorithm.HS256, "", "", 0, 0, 0, new JwtKeyStore(""));
+
+        // when
+        jwtKeyRing.init();
+
+        // then
+        assertThat(jwtKeyRing.getActiveKey().getKid()).isEqualTo("hs-2026");
+        assertThat(jwtKeyRing.resolveVerificationKey("hs-2026", SignatureAlgorithm.HS256.getValue()))
+                .isEqualTo(jwtKeyRing.getHmacKey().getVerificationKey());
+    }
+
+    @Test
+    @DisplayName("JWT 헤더에 그대로 쓸 수 없는 HMAC 키 식별자는 거절한다.")
+    void invalidHmacKidFailTest() {
+        // given
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, "hs\"1", SignatureAlgorithm.HS256, "", "", 0, 0, 0, new JwtKeyStore(""));
+
+        // when & then
+        assertThatThrownBy(jwtKeyRing::init).isInstanceOf(IllegalStateException.class);
+    }
+
+    private JwtKeyRing open(long retiredKeyTtlSeconds, long publishLeadSeconds) {
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(SECRET_KEY, "hs-1", SignatureAlgorithm.ES256, "", "",
+                retiredKeyTtlSeconds, 0, publishLeadSeconds, new JwtKeyStore(directory.toString()));
+        jwtKeyRing.init();
+        return jwtKeyRing;
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.assignmentsecurity.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.error.SecurityFilterChainException;
+import org.example.assignmentsecurity.config.security.LoginAttemptLimiter;
+import org.example.assignmentsecurity.config.security.TokenBucketLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptLimiterTest {
+
+    @Test
+    @DisplayName("허용량을 모두 소진하면 토큰이 다시 채워질 때까지 거절한다.")
+    void rejectUntilRefillTest() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 60, 600, 100);
+        long now = 0L;
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("test", now)).isTrue();
+        }
+
+        // then
+        assertThat(limiter.tryAcquire("test", now)).isFalse();
+        assertThat(limiter.tryAcquire("other", now)).isTrue();
+        assertThat(limiter.tryAcquire("test", now + TimeUnit.SECONDS.toNanos(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("유휴 항목은 제거된다.")
+    void evictIdleTest() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 60, 10, 2);
+        limiter.tryAcquire("a", 0L);
+        limiter.tryAcquire("b", 0L);
+
+        // when
+        int evicted = limiter.evictIdle(TimeUnit.SECONDS.toNanos(20));
+
+        // then
+        assertThat(evicted).isEqualTo(2);
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 항목 수에 도달해도 새 키를 거절하지 않고 가장 먼저 다시 채워질 버킷을 비운다.")
+    void evictSoonestRefillWhenFullTest() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 60, 600, 2);
+        long start = TimeUnit.SECONDS.toNanos(10);
+        limiter.tryAcquire("attacker-1", start);
+        limiter.tryAcquire("attacker-2", start + TimeUnit.MILLISECONDS.toNanos(200));
+
+        // when
+        boolean whileFull = limiter.tryAcquire("victim", start + TimeUnit.MILLISECONDS.toNanos(500));
+
+        // then
+        assertThat(whileFull).isTrue();
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("attacker-2", start + TimeUnit.MILLISECONDS.toNanos(500))).isFalse();
+        assertThat(limiter.tryAcquire("victim", start + TimeUnit.MILLISECONDS.toNanos(500))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 닉네임으로 연속 로그인을 시도하면 429 예외가 발생한다.")
+    void nicknameThrottleTest() {
+        // given
+        LoginAttemptLimiter limiter = new LoginAttemptLimiter(true, 20, 60, 2, 1, 600, 100, new SimpleMeterRegistry());
+        limiter.checkNickname("test");
+        limiter.checkNickname("test");
+
+        // when & then
+        assertThatThrownBy(() -> limiter.checkNickname("test"))
+                .isInstanceOf(SecurityFilterChainException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.assignmentsecurity.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.dto.LoginReqDto;
+import org.example.assignmentsecurity.domain.token.RefreshTokenRepository;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.example.assignmentsecurity.domain.user.User;
+import org.example.assignmentsecurity.domain.user.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class LoginQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    void init() {
+        user = userRepository.save(User.builder()
+                .username("query")
+                .nickname("query")
+                .password(passwordEncoder.encode("password"))
+                .authorities(List.of(Role.USER))
+                .build());
+    }
+
+    @AfterEach
+    void destroy() {
+        refreshTokenRepository.deleteAllByUserId(user.getId());
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("로그인은 회원 조회, refresh 세션 저장, 세션 수 확인만 수행한다.")
+    void loginQueryCountTest() throws Exception {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        MvcResult result = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginReqDto("query", "password"))))
+                .andReturn();
+        awaitAsyncCompletion(result.getRequest());
+
+        // then
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(result.getResponse().getHeader(JwtProvider.AUTHENTICATION_HEADER_PREFIX)).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        assertThat(refreshTokenRepository.findAll())
+                .filteredOn(token -> token.getUserId().equals(user.getId()))
+                .singleElement()
+                .satisfies(token -> assertThat(token.getExpiryDate()).isBefore(LocalDateTime.now().plusDays(31)));
+    }
+
+    @Test
+    @DisplayName("닉네임 필터에 없는 회원의 로그인은 DB 를 조회하지 않고 거절한다.")
+    void unknownNicknameLoginQueryCountTest() throws Exception {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        MvcResult result = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginReqDto("unknown nickname", "password"))))
+                .andReturn();
+        awaitAsyncCompletion(result.getRequest());
+
+        // then
+        assertThat(result.getResponse().getStatus()).isEqualTo(404);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private void awaitAsyncCompletion(MockHttpServletRequest request) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (request.isAsyncStarted() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
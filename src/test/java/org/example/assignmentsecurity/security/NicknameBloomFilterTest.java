@@ -0,0 +1,66 @@
+package org.example.assignmentsecurity.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.assignmentsecurity.domain.user.NicknameBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameBloomFilterTest {
+
+    @Test
+    @DisplayName("적재 전에는 모든 닉네임을 존재할 수 있는 것으로 판단한다.")
+    void notLoadedTest() {
+        // given
+        NicknameBloomFilter filter = new NicknameBloomFilter(1000, 0.01, new SimpleMeterRegistry());
+
+        // when & then
+        assertThat(filter.isLoaded()).isFalse();
+        assertThat(filter.mightContain("unknown")).isTrue();
+    }
+
+    @Test
+    @DisplayName("적재된 닉네임과 가입 후 추가된 닉네임은 항상 존재할 수 있는 것으로 판단한다.")
+    void rebuildAndPutTest() {
+        // given
+        NicknameBloomFilter filter = new NicknameBloomFilter(1000, 0.01, new SimpleMeterRegistry());
+        List<String> nicknames = IntStream.range(0, 1000).mapToObj(i -> "user" + i).toList();
+
+        // when
+        filter.rebuild(nicknames.size(), () -> nicknames);
+        filter.put("new user");
+
+        // then
+        assertThat(nicknames).allMatch(filter::mightContain);
+        assertThat(filter.mightContain("new user")).isTrue();
+        long falsePositives = IntStream.range(0, 10000)
+                .mapToObj(i -> "missing" + i)
+                .filter(filter::mightContain)
+                .count();
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(filter.getFalsePositiveRate()).isLessThan(0.02);
+        assertThat(filter.getMemoryBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("재적재 중 조회가 끝나기 전에 추가된 닉네임도 새 필터에 포함된다.")
+    void putDuringRebuildTest() {
+        // given
+        NicknameBloomFilter filter = new NicknameBloomFilter(1000, 0.01, new SimpleMeterRegistry());
+        filter.rebuild(0, List::of);
+
+        // when
+        filter.rebuild(1, () -> {
+            filter.put("joined during rebuild");
+            return List.of("existing");
+        });
+
+        // then
+        assertThat(filter.mightContain("existing")).isTrue();
+        assertThat(filter.mightContain("joined during rebuild")).isTrue();
+    }
+}
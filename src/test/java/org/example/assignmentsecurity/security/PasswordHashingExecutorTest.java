@@ -0,0 +1,77 @@
+package org.example.assignmentsecurity.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.assignmentsecurity.common.error.BusinessException;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.config.security.PasswordHashingExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    @Test
+    @DisplayName("해싱 대기열이 가득 차면 요청을 즉시 거절한다.")
+    void rejectWhenQueueFullTest() throws InterruptedException {
+        // given
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 1, new SimpleMeterRegistry());
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = executor.submit(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        });
+        running.await();
+        CompletableFuture<String> queued = executor.submit(() -> "queued");
+
+        // when & then
+        assertThat(executor.getQueueSize()).isEqualTo(1);
+        assertThatThrownBy(() -> executor.submit(() -> "rejected"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SERVER_BUSY);
+
+        release.countDown();
+        assertThat(first.join()).isEqualTo("first");
+        assertThat(queued.join()).isEqualTo("queued");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱이 끝난 뒤의 후속 처리는 해싱 스레드가 아닌 별도 스레드에서 실행된다.")
+    void callbackRunsOffHashingPoolTest() {
+        // given
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 1, new SimpleMeterRegistry());
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> hashed = executor.submit(() -> {
+            await(release);
+            return Thread.currentThread().getName();
+        });
+
+        // when
+        CompletableFuture<List<String>> callback = hashed.thenApply(hashingThread -> List.of(hashingThread, Thread.currentThread().getName()));
+        release.countDown();
+
+        // then
+        List<String> threads = callback.join();
+        assertThat(threads.get(0)).startsWith("password-hashing-").doesNotStartWith("password-hashing-callback-");
+        assertThat(threads.get(1)).startsWith("password-hashing-callback-");
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
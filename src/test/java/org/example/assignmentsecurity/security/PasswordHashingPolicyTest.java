@@ -0,0 +1,55 @@
+package org.example.assignmentsecurity.security;
+
+import org.example.assignmentsecurity.config.security.PasswordHashingPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingPolicyTest {
+
+    @Test
+    @DisplayName("고정 cost 가 설정되면 알고리즘 접두사와 해당 cost 로 해싱한다.")
+    void fixedCostTest() {
+        // given
+        PasswordHashingPolicy policy = new PasswordHashingPolicy(5, 250, 4);
+
+        // when
+        String encoded = policy.getPasswordEncoder().encode("password");
+
+        // then
+        assertThat(policy.getCost()).isEqualTo(5);
+        assertThat(encoded).startsWith("{bcrypt}$2a$05$");
+        assertThat(policy.getPasswordEncoder().matches("password", encoded)).isTrue();
+        assertThat(policy.needsRehash(encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("접두사가 없는 기존 해시도 검증되며 재해싱 대상이 된다.")
+    void legacyHashTest() {
+        // given
+        PasswordHashingPolicy policy = new PasswordHashingPolicy(5, 250, 4);
+        String legacy = new BCryptPasswordEncoder(4).encode("password");
+
+        // when
+        PasswordEncoder passwordEncoder = policy.getPasswordEncoder();
+
+        // then
+        assertThat(passwordEncoder.matches("password", legacy)).isTrue();
+        assertThat(policy.needsRehash(legacy)).isTrue();
+        assertThat(policy.needsRehash("{bcrypt}" + legacy)).isTrue();
+    }
+
+    @Test
+    @DisplayName("cost 보정은 최소 cost 이상을 선택한다.")
+    void calibrateTest() {
+        // when
+        PasswordHashingPolicy policy = new PasswordHashingPolicy(0, 1, 4);
+
+        // then
+        assertThat(policy.getCost()).isGreaterThanOrEqualTo(4);
+        assertThat(policy.getPasswordEncoder().encode("password")).startsWith("{bcrypt}$2a$");
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.assignmentsecurity.security;
+
+import org.example.assignmentsecurity.config.security.LoginAuthentication;
+import org.example.assignmentsecurity.config.security.LoginAuthenticationProvider;
+import org.example.assignmentsecurity.config.security.PasswordHashingPolicy;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.example.assignmentsecurity.domain.user.User;
+import org.example.assignmentsecurity.domain.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "security.password.bcrypt.cost=5")
+class PasswordRehashTest {
+
+    @Autowired
+    private LoginAuthenticationProvider loginAuthenticationProvider;
+
+    @Autowired
+    private PasswordHashingPolicy passwordHashingPolicy;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @AfterEach
+    void destroy() {
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 저장된 해시의 cost 가 다르면 백그라운드에서 재해싱한다.")
+    void rehashOnLoginTest() throws InterruptedException {
+        // given
+        String legacyPassword = new BCryptPasswordEncoder(4).encode("password");
+        user = userRepository.save(User.builder()
+                .username("rehash")
+                .nickname("rehash")
+                .password(legacyPassword)
+                .authorities(List.of(Role.USER))
+                .build());
+
+        // when
+        loginAuthenticationProvider.authenticate(new LoginAuthentication("rehash", "password"));
+
+        // then
+        String rehashed = awaitPasswordChange(legacyPassword);
+        assertThat(rehashed).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordHashingPolicy.needsRehash(rehashed)).isFalse();
+        assertThat(passwordHashingPolicy.getPasswordEncoder().matches("password", rehashed)).isTrue();
+    }
+
+    private String awaitPasswordChange(String previous) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        String current = previous;
+        while (current.equals(previous) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            current = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        }
+        return current;
+    }
+}
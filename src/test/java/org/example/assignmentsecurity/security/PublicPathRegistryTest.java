@@ -0,0 +1,47 @@
+package org.example.assignmentsecurity.security;
+
+import org.example.assignmentsecurity.config.security.PublicPathRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicPathRegistryTest {
+
+    @Test
+    @DisplayName("공개 경로와 보호 경로를 구분한다.")
+    void isPublicTest() {
+        assertThat(PublicPathRegistry.isPublic("/auth")).isTrue();
+        assertThat(PublicPathRegistry.isPublic("/auth/login")).isTrue();
+        assertThat(PublicPathRegistry.isPublic("/swagger-ui/index.html")).isTrue();
+        assertThat(PublicPathRegistry.isPublic("/favicon.ico")).isTrue();
+        assertThat(PublicPathRegistry.isPublic("/error")).isTrue();
+
+        assertThat(PublicPathRegistry.isPublic("/")).isFalse();
+        assertThat(PublicPathRegistry.isPublic("/authx")).isFalse();
+        assertThat(PublicPathRegistry.isPublic("/api/auth/login")).isFalse();
+        assertThat(PublicPathRegistry.isPublic("/error/detail")).isFalse();
+        assertThat(PublicPathRegistry.isPublic("/api/사용자")).isFalse();
+    }
+
+    @Test
+    @DisplayName("SecurityConfig 에 등록된 패턴과 같은 결과를 반환한다.")
+    void matchesAntPatternTest() {
+        // given
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        List<String> patterns = Arrays.asList(PublicPathRegistry.patterns());
+        List<String> uris = List.of("/auth", "/auth/", "/auth/refresh", "/authority", "/swagger-ui.html",
+                "/swagger-ui", "/swagger-ui/a/b", "/v3/api-docs", "/v3/api-docs/swagger-config",
+                "/webjars/x.js", "/favicon.ico", "/favicon.icox", "/error", "/api/users");
+
+        // when / then
+        for (String uri : uris) {
+            boolean expected = patterns.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri));
+            assertThat(PublicPathRegistry.isPublic(uri)).as(uri).isEqualTo(expected);
+        }
+    }
+}
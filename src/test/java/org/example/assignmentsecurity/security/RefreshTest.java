@@ -2,12 +2,19 @@ package org.example.assignmentsecurity.security;
 
 import jakarta.servlet.http.Cookie;
 import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.common.util.TokenDigest;
 import org.example.assignmentsecurity.config.security.AuthUser;
 import org.example.assignmentsecurity.config.security.JwtProvider;
 import org.example.assignmentsecurity.config.security.LoginAuthentication;
 import org.example.assignmentsecurity.domain.token.RefreshToken;
+import org.example.assignmentsecurity.domain.token.RefreshSession;
+import org.example.assignmentsecurity.domain.token.RefreshTokenStore;
 import org.example.assignmentsecurity.domain.token.RefreshTokenRepository;
+import org.example.assignmentsecurity.config.security.VerifiedToken;
 import org.example.assignmentsecurity.domain.user.Role;
+import org.example.assignmentsecurity.domain.user.User;
+import org.example.assignmentsecurity.domain.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,9 +24,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,6 +46,17 @@ public class RefreshTest {
     @Autowired
     private JwtProvider jwtProvider;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @AfterEach
+    void destroy() {
+        refreshTokenRepository.deleteAll();
+    }
+
     @Test
     @DisplayName("accessToken 을 재 발급 요청할 때 정상적으로 재 발급 된다.")
     void refreshTokenSuccessTest() throws Exception {
@@ -46,14 +66,14 @@ public class RefreshTest {
         String refreshToken = jwtProvider.generateRefreshToken(loginAuthentication);
 
         RefreshToken token = RefreshToken.builder()
-                .id(1L)
-                .refreshToken(refreshToken)
+                .userId(1L)
+                .tokenHash(TokenDigest.sha256Hex(refreshToken))
                 .expiryDate(LocalDateTime.now().plusSeconds(1000 * 30))
                 .build();
 
-        RefreshToken savedToken = refreshTokenRepository.save(token);
+        refreshTokenRepository.save(token);
 
-        Cookie cookie = new Cookie(JwtProvider.COOKIE_VALUE_PREFIX, savedToken.getRefreshToken());
+        Cookie cookie = new Cookie(JwtProvider.COOKIE_VALUE_PREFIX, refreshToken);
 
         // when
         ResultActions result = mockMvc.perform(post("/auth/refresh")
@@ -99,13 +119,13 @@ public class RefreshTest {
         String refreshToken = jwtProvider.generateRefreshToken(loginAuthentication);
 
         RefreshToken token = RefreshToken.builder()
-                .id(1L)
-                .refreshToken(refreshToken)
+                .userId(1L)
+                .tokenHash(TokenDigest.sha256Hex(refreshToken))
                 .expiryDate(LocalDateTime.now().minusSeconds(1000))
                 .build();
 
-        RefreshToken savedToken = refreshTokenRepository.save(token);
-        Cookie cookie = new Cookie(JwtProvider.COOKIE_VALUE_PREFIX, savedToken.getRefreshToken().replace(" ", "%20"));
+        refreshTokenRepository.save(token);
+        Cookie cookie = new Cookie(JwtProvider.COOKIE_VALUE_PREFIX, refreshToken.replace(" ", "%20"));
 
         // when
         ResultActions result = mockMvc.perform(post("/auth/refresh")
@@ -136,4 +156,122 @@ public class RefreshTest {
                 .andExpect(jsonPath("$.error.status").value(ErrorCode.REFRESH_TOKEN_NOT_FOUND.getStatus()))
                 .andDo(print());
     }
+
+    @Test
+    @DisplayName("refresh 세션에 저장된 권한 정보로 JWT 파싱 없이 accessToken 이 재 발급 된다.")
+    void refreshFromRoleSnapshotTest() throws Exception {
+        // given
+        String refreshToken = JwtProvider.TOKEN_PREFIX + "opaque-session-token";
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(2L)
+                .tokenHash(TokenDigest.sha256Hex(refreshToken))
+                .subject("snapshot")
+                .roleMask(Role.USER.getMask() | Role.ADMIN.getMask())
+                .rolesCheckedAt(LocalDateTime.now())
+                .expiryDate(LocalDateTime.now().plusDays(1))
+                .build());
+        Cookie cookie = new Cookie(JwtProvider.COOKIE_VALUE_PREFIX, refreshToken.replace(" ", "%20"));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .cookie(cookie));
+
+        // then
+        result.andExpect(status().isOk());
+        VerifiedToken accessToken = jwtProvider.verifyBearer(
+                result.andReturn().getResponse().getHeader(JwtProvider.AUTHENTICATION_HEADER_PREFIX));
+        assertThat(accessToken.getAuthUser().getNickname()).isEqualTo("snapshot");
+        assertThat(accessToken.getAuthUser().getAuthorities()).hasSize(2);
+
+    }
+
+    @Test
+    @DisplayName("오래된 권한 정보는 재 발급 시 회원 정보로 다시 검증된다.")
+    void revalidateStaleRoleSnapshotTest() throws Exception {
+        // given
+        User user = userRepository.save(User.builder()
+                .username("stale")
+                .nickname("stale")
+                .password("password")
+                .authorities(List.of(Role.USER, Role.ADMIN))
+                .build());
+        String refreshToken = JwtProvider.TOKEN_PREFIX + "stale-session-token";
+        String tokenHash = TokenDigest.sha256Hex(refreshToken);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(user.getId())
+                .tokenHash(tokenHash)
+                .subject("stale")
+                .roleMask(Role.USER.getMask())
+                .rolesCheckedAt(LocalDateTime.now().minusDays(1))
+                .expiryDate(LocalDateTime.now().plusDays(1))
+                .build());
+        Cookie cookie = new Cookie(JwtProvider.COOKIE_VALUE_PREFIX, refreshToken.replace(" ", "%20"));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .cookie(cookie));
+
+        // then
+        result.andExpect(status().isOk());
+        VerifiedToken accessToken = jwtProvider.verifyBearer(
+                result.andReturn().getResponse().getHeader(JwtProvider.AUTHENTICATION_HEADER_PREFIX));
+        assertThat(accessToken.getAuthUser().getAuthorities()).hasSize(2);
+        assertThat(refreshTokenRepository.findByTokenHash(tokenHash))
+                .hasValueSatisfying(token -> {
+                    assertThat(token.getRoleMask()).isEqualTo(Role.USER.getMask() | Role.ADMIN.getMask());
+                    assertThat(token.getRolesCheckedAt()).isAfter(LocalDateTime.now().minusMinutes(1));
+                });
+
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("여러 기기의 세션은 유지되고 최대 개수를 넘으면 가장 오래된 세션부터 제거된다.")
+    void multiDeviceSessionCapTest() {
+        // given
+        Long userId = 100L;
+        Instant now = Instant.now();
+
+        // when
+        for (int device = 0; device < 6; device++) {
+            refreshTokenStore.save(new RefreshSession(userId, TokenDigest.sha256Hex("device" + device),
+                    "multi", Role.USER.getMask(), now, now.plusSeconds(3600)));
+        }
+
+        // then
+        assertThat(refreshTokenStore.findByTokenHash(TokenDigest.sha256Hex("device0"))).isEmpty();
+        for (int device = 1; device < 6; device++) {
+            assertThat(refreshTokenStore.findByTokenHash(TokenDigest.sha256Hex("device" + device))).isPresent();
+        }
+
+        refreshTokenStore.revokeAll(userId);
+        assertThat(refreshTokenRepository.findAll()).noneMatch(token -> token.getUserId().equals(userId));
+    }
+
+    @Test
+    @DisplayName("세션 수 제한을 넘어 쌓여 있던 세션은 다음 로그인 시 한 번에 정리된다.")
+    void trimLegacySessionsTest() {
+        // given
+        Long userId = 200L;
+        Instant now = Instant.now();
+        for (int device = 0; device < 12; device++) {
+            refreshTokenRepository.save(RefreshToken.builder()
+                    .userId(userId)
+                    .tokenHash(TokenDigest.sha256Hex("legacy" + device))
+                    .expiryDate(LocalDateTime.now().plusHours(1))
+                    .build());
+        }
+
+        // when
+        refreshTokenStore.save(new RefreshSession(userId, TokenDigest.sha256Hex("latest"),
+                "legacy", Role.USER.getMask(), now, now.plusSeconds(3600)));
+
+        // then
+        assertThat(refreshTokenRepository.findAll()).filteredOn(token -> token.getUserId().equals(userId)).hasSize(5);
+        assertThat(refreshTokenStore.findByTokenHash(TokenDigest.sha256Hex("latest"))).isPresent();
+        assertThat(refreshTokenStore.findByTokenHash(TokenDigest.sha256Hex("legacy7"))).isEmpty();
+        assertThat(refreshTokenStore.findByTokenHash(TokenDigest.sha256Hex("legacy8"))).isPresent();
+    }
 }
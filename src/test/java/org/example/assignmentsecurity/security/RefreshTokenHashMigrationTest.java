@@ -0,0 +1,128 @@
+package org.example.assignmentsecurity.security;
+
+import org.example.assignmentsecurity.common.util.TokenDigest;
+import org.example.assignmentsecurity.domain.token.RefreshTokenHashMigration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshTokenHashMigrationTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void init() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+    }
+
+    @Test
+    @DisplayName("테이블이 없는 새 DB 에서는 아무것도 하지 않는다.")
+    void migrateWithoutTableTest() {
+        // when
+        new RefreshTokenHashMigration(jdbcTemplate, 2, 600000, 0).migrate();
+
+        // then
+        assertThat(columnCount("token_hash")).isZero();
+    }
+
+    @Test
+    @DisplayName("원문 refreshToken 이 저장된 기존 데이터는 해시 값으로 이관되고 해시에 유일 인덱스가 생성된다.")
+    void migrateLegacyRefreshTokenTest() {
+        // given
+        createLegacyTable();
+        for (long id = 1; id <= 3; id++) {
+            insertLegacy(id, "legacy-token-" + id);
+        }
+
+        // when
+        new RefreshTokenHashMigration(jdbcTemplate, 2, 600000, 0).migrate();
+
+        // then
+        for (long id = 1; id <= 3; id++) {
+            assertThat(jdbcTemplate.queryForObject("select token_hash from refresh_token where id = ?", String.class, id))
+                    .isEqualTo(TokenDigest.sha256Hex("legacy-token-" + id));
+        }
+        assertThat(columnCount("refresh_token")).isZero();
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into refresh_token (user_id, token_hash, expiry_date) values (?, ?, ?)",
+                4L, TokenDigest.sha256Hex("legacy-token-1"), LocalDateTime.now()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into refresh_token (user_id, token_hash, expiry_date) values (?, ?, ?)",
+                5L, null, LocalDateTime.now()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("회원 id 를 기본 키로 쓰던 기존 데이터는 user_id 로 옮겨지고 id 는 자동 증가 세션 키가 된다.")
+    void migrateLegacySessionKeyTest() {
+        // given
+        createLegacyTable();
+        insertLegacy(7L, "legacy-token-7");
+
+        // when
+        new RefreshTokenHashMigration(jdbcTemplate, 2, 600000, 0).migrate();
+        jdbcTemplate.update("insert into refresh_token (user_id, token_hash, expiry_date) values (?, ?, ?)",
+                7L, TokenDigest.sha256Hex("second-device"), LocalDateTime.now().plusDays(1));
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select id from refresh_token where user_id = ? order by id", Long.class, 7L))
+                .containsExactly(7L, 8L);
+        assertThat(columnCount("subject")).isOne();
+        assertThat(columnCount("role_mask")).isOne();
+        assertThat(columnCount("roles_checked_at")).isOne();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from information_schema.indexes where lower(index_name) in (?, ?)",
+                Integer.class, RefreshTokenHashMigration.USER_ID_INDEX, RefreshTokenHashMigration.EXPIRY_DATE_INDEX))
+                .isEqualTo(2);
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into refresh_token (token_hash, expiry_date) values (?, ?)",
+                TokenDigest.sha256Hex("no-user"), LocalDateTime.now()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 마이그레이션 잠금을 잡고 있으면 대기 후 기동을 중단하고, 잠금이 풀린 뒤 다시 실행하면 이관된다.")
+    void migrateWaitsForLockTest() {
+        // given
+        createLegacyTable();
+        insertLegacy(1L, "locked-token");
+        RefreshTokenHashMigration migration = new RefreshTokenHashMigration(jdbcTemplate, 2, 600000, 0);
+        jdbcTemplate.execute("create table schema_migration_lock ("
+                + "name varchar(64) not null primary key, owner varchar(64) not null, locked_at timestamp not null)");
+        jdbcTemplate.update("insert into schema_migration_lock (name, owner, locked_at) values (?, ?, ?)",
+                RefreshTokenHashMigration.LOCK_NAME, "other-node", LocalDateTime.now());
+
+        // when & then
+        assertThatThrownBy(migration::migrate).isInstanceOf(IllegalStateException.class);
+        assertThat(jdbcTemplate.queryForObject("select refresh_token from refresh_token where id = ?", String.class, 1L))
+                .isEqualTo("locked-token");
+
+        jdbcTemplate.update("delete from schema_migration_lock where name = ?", RefreshTokenHashMigration.LOCK_NAME);
+        migration.migrate();
+        migration.migrate();
+        assertThat(jdbcTemplate.queryForObject("select token_hash from refresh_token where id = ?", String.class, 1L))
+                .isEqualTo(TokenDigest.sha256Hex("locked-token"));
+    }
+
+    private void createLegacyTable() {
+        jdbcTemplate.execute("create table refresh_token (id bigint not null, expiry_date timestamp(6) not null, "
+                + "refresh_token varchar(255) not null, primary key (id))");
+    }
+
+    private void insertLegacy(long id, String refreshToken) {
+        jdbcTemplate.update("insert into refresh_token (id, refresh_token, expiry_date) values (?, ?, ?)",
+                id, refreshToken, LocalDateTime.now().plusDays(1));
+    }
+
+    private int columnCount(String column) {
+        return jdbcTemplate.queryForObject("select count(*) from information_schema.columns "
+                + "where lower(table_name) = 'refresh_token' and lower(column_name) = ?", Integer.class, column);
+    }
+}
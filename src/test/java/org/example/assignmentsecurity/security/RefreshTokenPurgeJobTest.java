@@ -0,0 +1,66 @@
+package org.example.assignmentsecurity.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.assignmentsecurity.common.util.TokenDigest;
+import org.example.assignmentsecurity.domain.token.RefreshToken;
+import org.example.assignmentsecurity.domain.token.RefreshTokenPurgeJob;
+import org.example.assignmentsecurity.domain.token.RefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "security.refresh-token.purge.batch-size=2",
+        "security.refresh-token.purge.pause-ms=0"
+})
+class RefreshTokenPurgeJobTest {
+
+    @Autowired
+    private RefreshTokenPurgeJob refreshTokenPurgeJob;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void destroy() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("만료된 refresh 토큰만 배치 단위로 삭제된다.")
+    void purgeExpiredTokensTest() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            refreshTokenRepository.save(RefreshToken.builder()
+                    .userId(id)
+                    .tokenHash(TokenDigest.sha256Hex("expired" + id))
+                    .expiryDate(LocalDateTime.now().minusMinutes(id))
+                    .build());
+        }
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(6L)
+                .tokenHash(TokenDigest.sha256Hex("alive"))
+                .expiryDate(LocalDateTime.now().plusDays(1))
+                .build());
+        double purgedBefore = meterRegistry.counter("security.refresh.purge.rows").count();
+
+        // when
+        refreshTokenPurgeJob.purge();
+
+        // then
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(RefreshToken::getUserId)
+                .containsExactly(6L);
+        assertThat(meterRegistry.counter("security.refresh.purge.rows").count() - purgedBefore).isEqualTo(5);
+        assertThat(meterRegistry.timer("security.refresh.purge.duration").count()).isPositive();
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.assignmentsecurity.security;
+
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.RoleClaim;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleClaimTest {
+
+    @Test
+    @DisplayName("권한 목록은 비트마스크로 인코딩되고 다시 같은 권한으로 디코딩된다.")
+    void encodeDecodeTest() {
+        // given
+        AuthUser authUser = new AuthUser("test", List.of(Role.USER, Role.ADMIN));
+
+        // when
+        int mask = RoleClaim.encode(authUser.getAuthorities());
+
+        // then
+        assertThat(mask).isEqualTo(Role.USER.getMask() | Role.ADMIN.getMask());
+        assertThat(RoleClaim.decode(mask)).containsExactly(Role.USER, Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("이전 형식의 권한 클레임도 디코딩된다.")
+    void decodeLegacyClaimTest() {
+        // given
+        List<Map<String, String>> legacyClaim = List.of(Map.of("authority", "ROLE_USER"));
+
+        // when
+        List<Role> roles = RoleClaim.decode(legacyClaim);
+
+        // then
+        assertThat(roles).containsExactly(Role.USER);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.assignmentsecurity.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.assignmentsecurity.config.security.event.SecurityEventPublisher;
+import org.example.assignmentsecurity.config.security.event.SecurityEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityEventPublisherTest {
+
+    @Test
+    @DisplayName("초당 허용량을 넘는 이벤트는 이벤트 타입별로 샘플링된다.")
+    void samplingTest() {
+        // given
+        SecurityEventPublisher publisher = new SecurityEventPublisher(100, 3, new SimpleMeterRegistry());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            publisher.publish(SecurityEventType.TOKEN_REJECTED, request, null);
+        }
+        publisher.publish(SecurityEventType.LOGIN_FAILED, request, "test");
+
+        // then
+        assertThat(publisher.getPublishedCount()).isBetween(4L, 7L);
+        assertThat(publisher.getPublishedCount() + publisher.getSampledOutCount()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 요청 스레드를 막지 않고 이벤트를 버린다.")
+    void dropWhenFullTest() {
+        // given
+        SecurityEventPublisher publisher = new SecurityEventPublisher(2, 0, new SimpleMeterRegistry());
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(SecurityEventType.LOGIN_FAILED, request, "test");
+        }
+
+        // then
+        assertThat(publisher.getPublishedCount()).isEqualTo(2);
+        assertThat(publisher.getDroppedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("토큰은 원문 대신 해시 지문으로 기록된다.")
+    void redactTest() {
+        // given
+        String token = "Bearer eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ0ZXN0In0.signature";
+
+        // when
+        String redacted = SecurityEventPublisher.redact(token);
+
+        // then
+        assertThat(redacted).startsWith("sha256:").hasSize("sha256:".length() + 12);
+        assertThat(redacted).doesNotContain("eyJ");
+        assertThat(SecurityEventPublisher.redact(token)).isEqualTo(redacted);
+        assertThat(SecurityEventPublisher.redact(null)).isNull();
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.assignmentsecurity.security;
+
+import org.example.assignmentsecurity.config.security.filter.SecurityRoute;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityRouteTest {
+
+    @Test
+    @DisplayName("요청 URI 로 보안 라우트를 한 번에 분류한다.")
+    void resolveTest() {
+        assertThat(SecurityRoute.resolve("POST", "/auth/login")).isEqualTo(SecurityRoute.LOGIN);
+        assertThat(SecurityRoute.resolve("POST", "/auth/refresh")).isEqualTo(SecurityRoute.REFRESH);
+        assertThat(SecurityRoute.resolve("POST", "/auth/signup")).isEqualTo(SecurityRoute.PUBLIC);
+        assertThat(SecurityRoute.resolve("POST", "/swagger-ui/index.html")).isEqualTo(SecurityRoute.PUBLIC);
+        assertThat(SecurityRoute.resolve("POST", "/api/users")).isEqualTo(SecurityRoute.PROTECTED);
+        assertThat(SecurityRoute.resolve("POST", "/auth/login/extra")).isEqualTo(SecurityRoute.PUBLIC);
+    }
+
+    @Test
+    @DisplayName("로그인과 재발급 라우트는 POST 요청에만 적용된다.")
+    void resolveByMethodTest() {
+        assertThat(SecurityRoute.resolve("GET", "/auth/login")).isEqualTo(SecurityRoute.PUBLIC);
+        assertThat(SecurityRoute.resolve("GET", "/auth/refresh")).isEqualTo(SecurityRoute.PUBLIC);
+        assertThat(SecurityRoute.resolve("GET", "/auth/revoke")).isEqualTo(SecurityRoute.PROTECTED);
+    }
+}
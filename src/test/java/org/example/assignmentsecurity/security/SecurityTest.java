@@ -12,6 +12,7 @@ import org.example.assignmentsecurity.config.security.dto.LoginReqDto;
 import org.example.assignmentsecurity.domain.user.Role;
 import org.example.assignmentsecurity.domain.user.User;
 import org.example.assignmentsecurity.domain.user.UserRepository;
+import org.example.assignmentsecurity.service.NicknameBloomFilterLoader;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +22,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -29,6 +32,7 @@ import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -55,6 +59,12 @@ public class SecurityTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NicknameBloomFilterLoader nicknameBloomFilterLoader;
+
     private User user;
 
     @Value("${jwt.secret.key}")
@@ -95,9 +105,9 @@ public class SecurityTest {
         LoginReqDto loginReqDto = new LoginReqDto("fail test", "password");
 
         // when
-        ResultActions result = mockMvc.perform(post("/auth/login")
+        ResultActions result = awaitAsyncCompletion(mockMvc.perform(post("/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(loginReqDto)));
+                .content(objectMapper.writeValueAsString(loginReqDto))));
 
         // then
         result.andExpect(status().isNotFound())
@@ -108,6 +118,17 @@ public class SecurityTest {
         ;
     }
 
+    @Test
+    @DisplayName("POST 가 아닌 로그인 요청은 로그인 처리기로 전달되지 않는다.")
+    void loginWithGetMethodNotHandledTest() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(get("/auth/login"));
+
+        // then
+        result.andExpect(status().isMethodNotAllowed())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("로그인 시 패스워드가 일치하지 않을 경우 예외가 발생한다.")
     void passwordMissMatchLoginFailTest() throws Exception {
@@ -115,9 +136,9 @@ public class SecurityTest {
         LoginReqDto loginReqDto = new LoginReqDto("test", "1234");
 
         // when
-        ResultActions result = mockMvc.perform(post("/auth/login")
+        ResultActions result = awaitAsyncCompletion(mockMvc.perform(post("/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(loginReqDto)));
+                .content(objectMapper.writeValueAsString(loginReqDto))));
 
         // then
         result.andExpect(status().isUnauthorized())
@@ -134,9 +155,9 @@ public class SecurityTest {
         LoginReqDto loginReqDto = new LoginReqDto("test", "password");
 
         // when
-        ResultActions result = mockMvc.perform(post("/auth/login")
+        ResultActions result = awaitAsyncCompletion(mockMvc.perform(post("/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(objectMapper.writeValueAsString(loginReqDto)));
+                .content(objectMapper.writeValueAsString(loginReqDto))));
 
         // then
         result.andExpect(status().isOk())
@@ -147,6 +168,30 @@ public class SecurityTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("다른 노드에서 가입한 회원도 닉네임 필터 갱신 후 로그인할 수 있다.")
+    void loginUserRegisteredOnOtherNodeTest() throws Exception {
+        // given
+        jdbcTemplate.update("insert into users (username, nickname, password) values (?, ?, ?)",
+                "other", "other node", passwordEncoder.encode("password"));
+        LoginReqDto loginReqDto = new LoginReqDto("other node", "password");
+
+        try {
+            // when
+            nicknameBloomFilterLoader.poll();
+            ResultActions result = awaitAsyncCompletion(mockMvc.perform(post("/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(loginReqDto))));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(header().exists(JwtProvider.AUTHENTICATION_HEADER_PREFIX))
+                    .andDo(print());
+        } finally {
+            jdbcTemplate.update("delete from users where nickname = ?", "other node");
+        }
+    }
+
     @Test
     @DisplayName("회원 정보를 요청할 때 헤더에 토큰값이 없을 경우 예외가 발생한다.")
     void notFoundAccessTokenFailTest() throws Exception {
@@ -225,4 +270,13 @@ public class SecurityTest {
                 .andExpect(jsonPath("$.data.nickname").value(authUser.getNickname()))
                 .andDo(print());
     }
+
+    private ResultActions awaitAsyncCompletion(ResultActions result) throws InterruptedException {
+        MockHttpServletRequest request = result.andReturn().getRequest();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (request.isAsyncStarted() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,101 @@
+package org.example.assignmentsecurity.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.assignmentsecurity.config.security.TokenRevocationList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationListTest {
+
+    @Test
+    @DisplayName("폐기된 jti 만 폐기된 것으로 판단하고 jti 가 없는 토큰은 폐기되지 않은 것으로 판단한다.")
+    void isRevokedTest() {
+        // given
+        TokenRevocationList list = new TokenRevocationList(1000, 0.001, new SimpleMeterRegistry());
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        IntStream.range(0, 1000).forEach(i -> list.add("revoked-" + i, expiresAt));
+
+        // when & then
+        assertThat(IntStream.range(0, 1000)).allMatch(i -> list.isRevoked("revoked-" + i));
+        assertThat(IntStream.range(0, 10000)).noneMatch(i -> list.isRevoked(UUID.randomUUID().toString()));
+        assertThat(list.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 폐기 정보는 정리되고 만료되지 않은 폐기 정보는 유지된다.")
+    void pruneTest() {
+        // given
+        TokenRevocationList list = new TokenRevocationList(100, 0.001, new SimpleMeterRegistry());
+        long now = System.currentTimeMillis();
+        list.add("expired", now - 1_000);
+        list.add("active", now + 60_000);
+
+        // when
+        int pruned = list.prune(now);
+
+        // then
+        assertThat(pruned).isEqualTo(1);
+        assertThat(list.size()).isEqualTo(1);
+        assertThat(list.isRevoked("expired")).isFalse();
+        assertThat(list.isRevoked("active")).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터를 재구성하는 동안 폐기한 토큰도 재구성 이후 폐기된 것으로 판단한다.")
+    void addWhileRebuildingTest() throws Exception {
+        // given
+        TokenRevocationList list = new TokenRevocationList(100, 0.001, new SimpleMeterRegistry());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean running = new AtomicBoolean(true);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        // when
+        Future<?> rebuilds = executor.submit(() -> {
+            for (int round = 0; running.get(); round++) {
+                list.add("expired-" + round, 0);
+                list.prune(System.currentTimeMillis());
+            }
+        });
+        List<Future<?>> writers = IntStream.range(0, 3)
+                .mapToObj(writer -> executor.submit(() -> IntStream.range(0, 5_000)
+                        .forEach(i -> list.add("revoked-" + writer + "-" + i, expiresAt))))
+                .collect(Collectors.toList());
+        for (Future<?> future : writers) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        rebuilds.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(IntStream.range(0, 3).boxed()
+                .flatMap(writer -> IntStream.range(0, 5_000).mapToObj(i -> "revoked-" + writer + "-" + i)))
+                .allMatch(list::isRevoked);
+    }
+
+    @Test
+    @DisplayName("워터마크는 뒤로 이동하지 않는다.")
+    void advanceWatermarkTest() {
+        // given
+        TokenRevocationList list = new TokenRevocationList(100, 0.001, new SimpleMeterRegistry());
+
+        // when
+        list.advanceWatermark(10);
+        list.advanceWatermark(3);
+
+        // then
+        assertThat(list.getWatermark()).isEqualTo(10);
+    }
+}
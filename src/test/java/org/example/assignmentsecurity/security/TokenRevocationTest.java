@@ -0,0 +1,155 @@
+package org.example.assignmentsecurity.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.JwtProvider;
+import org.example.assignmentsecurity.config.security.LoginAuthentication;
+import org.example.assignmentsecurity.config.security.TokenRevocationList;
+import org.example.assignmentsecurity.controller.dto.rep.TokenIntrospectRepDto;
+import org.example.assignmentsecurity.controller.dto.rep.TokenRevokeRepDto;
+import org.example.assignmentsecurity.domain.token.RevokedToken;
+import org.example.assignmentsecurity.domain.token.RevokedTokenRepository;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.example.assignmentsecurity.service.TokenRevocationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TokenRevocationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @AfterEach
+    void destroy() {
+        revokedTokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("폐기된 액세스 토큰으로 요청하면 만료 전이라도 인증에 실패한다.")
+    void revokedTokenFailTest() throws Exception {
+        // given
+        String accessToken = jwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("test", List.of(Role.USER))));
+        String adminToken = jwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("admin", List.of(Role.ADMIN))));
+        String introspectBody = objectMapper.writeValueAsString(new TokenIntrospectRepDto(List.of(accessToken)));
+        mockMvc.perform(post("/auth/introspect")
+                        .header(JwtProvider.AUTHENTICATION_HEADER_PREFIX, adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(introspectBody))
+                .andExpect(jsonPath("$.data[0].active").value(true));
+
+        // when
+        mockMvc.perform(post("/auth/revoke")
+                        .header(JwtProvider.AUTHENTICATION_HEADER_PREFIX, accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TokenRevokeRepDto(accessToken))))
+                .andExpect(status().isOk());
+        ResultActions result = mockMvc.perform(get("/api/users")
+                .header(JwtProvider.AUTHENTICATION_HEADER_PREFIX, accessToken));
+
+        // then
+        result.andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error.message").value(ErrorCode.REVOKED_JWT_TOKEN.getMessage()))
+                .andDo(print());
+        mockMvc.perform(post("/auth/introspect")
+                        .header(JwtProvider.AUTHENTICATION_HEADER_PREFIX, adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(introspectBody))
+                .andExpect(jsonPath("$.data[0].active").value(false))
+                .andExpect(jsonPath("$.data[0].error").value(ErrorCode.REVOKED_JWT_TOKEN.name()));
+        assertThat(revokedTokenRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인증 없이 토큰 폐기를 요청하면 401 응답을 받고 토큰은 폐기되지 않는다.")
+    void revokeWithoutAuthenticationFailTest() throws Exception {
+        // given
+        String accessToken = jwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("victim", List.of(Role.USER))));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/auth/revoke")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TokenRevokeRepDto(accessToken))));
+
+        // then
+        result.andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error.message").value(ErrorCode.TOKEN_NOT_FOUND.getMessage()))
+                .andDo(print());
+        assertThat(revokedTokenRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 토큰을 폐기하려 하면 403 응답을 받고 토큰은 폐기되지 않는다.")
+    void revokeOthersTokenFailTest() throws Exception {
+        // given
+        String victimToken = jwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("victim", List.of(Role.USER))));
+        String attackerToken = jwtProvider.generateAccessToken(new LoginAuthentication(new AuthUser("attacker", List.of(Role.USER))));
+
+        // when
+        ResultActions result = mockMvc.perform(post("/auth/revoke")
+                .header(JwtProvider.AUTHENTICATION_HEADER_PREFIX, attackerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TokenRevokeRepDto(victimToken))));
+
+        // then
+        result.andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.error.message").value(ErrorCode.TOKEN_OWNER_MISMATCH.getMessage()))
+                .andDo(print());
+        assertThat(revokedTokenRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 폐기한 토큰은 워터마크 이후 변경분 조회로 반영된다.")
+    void pollChangesTest() {
+        // given
+        String jti = UUID.randomUUID().toString();
+        RevokedToken revokedToken = revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiryDate(LocalDateTime.now().plusDays(1))
+                .build());
+        assertThat(tokenRevocationList.isRevoked(jti)).isFalse();
+
+        // when
+        tokenRevocationService.poll();
+
+        // then
+        assertThat(tokenRevocationList.isRevoked(jti)).isTrue();
+        assertThat(tokenRevocationList.getWatermark()).isGreaterThanOrEqualTo(revokedToken.getId());
+    }
+}
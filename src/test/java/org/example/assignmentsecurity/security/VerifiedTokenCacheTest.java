@@ -0,0 +1,83 @@
+package org.example.assignmentsecurity.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.assignmentsecurity.config.security.AuthUser;
+import org.example.assignmentsecurity.config.security.VerifiedToken;
+import org.example.assignmentsecurity.config.security.VerifiedTokenCache;
+import org.example.assignmentsecurity.domain.user.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    @Test
+    @DisplayName("같은 토큰으로 재요청할 경우 검증 결과를 캐시에서 반환한다.")
+    void cacheHitTest() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 300, new SimpleMeterRegistry());
+        AtomicInteger loadCount = new AtomicInteger();
+        VerifiedToken verifiedToken = verifiedToken(System.currentTimeMillis() + 60_000);
+
+        // when
+        cache.get("token", token -> {
+            loadCount.incrementAndGet();
+            return verifiedToken;
+        });
+        VerifiedToken result = cache.get("token", token -> {
+            loadCount.incrementAndGet();
+            return verifiedToken;
+        });
+
+        // then
+        assertThat(result).isSameAs(verifiedToken);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰의 만료 시간이 지난 경우 캐시된 결과를 사용하지 않는다.")
+    void expiredEntryTest() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100, 300, new SimpleMeterRegistry());
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        cache.get("token", token -> {
+            loadCount.incrementAndGet();
+            return verifiedToken(System.currentTimeMillis() - 1);
+        });
+        cache.get("token", token -> {
+            loadCount.incrementAndGet();
+            return verifiedToken(System.currentTimeMillis() - 1);
+        });
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거된다.")
+    void maxSizeTest() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 16, 300, new SimpleMeterRegistry());
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            cache.get("token" + i, token -> verifiedToken(System.currentTimeMillis() + 60_000));
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(16);
+    }
+
+    private VerifiedToken verifiedToken(long expiresAt) {
+        return new VerifiedToken(new AuthUser("test", List.of(Role.USER)), null, expiresAt);
+    }
+}
@@ -1,9 +1,13 @@
 package org.example.assignmentsecurity.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.assignmentsecurity.common.error.BusinessException;
+import org.example.assignmentsecurity.common.error.ErrorCode;
+import org.example.assignmentsecurity.config.security.PasswordHashingExecutor;
 import org.example.assignmentsecurity.controller.dto.rep.UserCreateRepDto;
 import org.example.assignmentsecurity.controller.dto.resp.UserCreateRespDto;
 import org.example.assignmentsecurity.controller.dto.resp.UserInfoRespDto;
+import org.example.assignmentsecurity.domain.user.NicknameBloomFilter;
 import org.example.assignmentsecurity.domain.user.Role;
 import org.example.assignmentsecurity.domain.user.User;
 import org.example.assignmentsecurity.domain.user.UserRepository;
@@ -12,11 +16,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -31,6 +38,12 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private NicknameBloomFilter nicknameBloomFilter;
+
+    @Spy
+    private PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1, 16, 1, new SimpleMeterRegistry());
+
     @InjectMocks
     private UserService userService;
 
@@ -53,11 +66,13 @@ class UserServiceTest {
         String encodedPassword = "encodedPassword";
 
         when(passwordEncoder.encode(repDto.getPassword())).thenReturn(encodedPassword);
+        when(nicknameBloomFilter.mightContain(repDto.getNickname())).thenReturn(true);
         when(userRepository.findByNickname(repDto.getNickname())).thenReturn(Optional.of(findUser));
 
         // when & then
-        assertThatThrownBy(() -> userService.register(repDto))
-                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> userService.register(repDto).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BusinessException.class);
 
         verify(passwordEncoder, times(1)).encode(any());
         verify(userRepository, times(1)).findByNickname(any());
@@ -83,11 +98,12 @@ class UserServiceTest {
         String encodedPassword = "encodedPassword";
 
         when(passwordEncoder.encode(repDto.getPassword())).thenReturn(encodedPassword);
+        when(nicknameBloomFilter.mightContain(repDto.getNickname())).thenReturn(true);
         when(userRepository.findByNickname(repDto.getNickname())).thenReturn(Optional.empty());
         when(userRepository.save(any(User.class))).thenReturn(user);
 
         // when
-        UserCreateRespDto result = userService.register(repDto);
+        UserCreateRespDto result = userService.register(repDto).join();
 
         // then
         assertThat(result).isNotNull();
@@ -96,6 +112,58 @@ class UserServiceTest {
         assertThat(result.getAuthorities().get(0).getAuthorityName()).isEqualTo(Role.USER.getAuthorityName());
     }
 
+    @Test
+    @DisplayName("닉네임 필터에 없는 닉네임이면 중복 조회 없이 회원가입이 수행된다.")
+    void registerSkipsLookupTest() {
+        // given
+        User user = User.builder()
+                .username("test")
+                .nickname("new user")
+                .password("encodedPassword")
+                .authorities(List.of(Role.USER))
+                .build();
+
+        UserCreateRepDto repDto = UserCreateRepDto.builder()
+                .username("test")
+                .nickname("new user")
+                .password("password")
+                .build();
+
+        when(passwordEncoder.encode(repDto.getPassword())).thenReturn("encodedPassword");
+        when(nicknameBloomFilter.mightContain(repDto.getNickname())).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenReturn(user);
+
+        // when
+        UserCreateRespDto result = userService.register(repDto).join();
+
+        // then
+        assertThat(result.getNickname()).isEqualTo(repDto.getNickname());
+        verify(userRepository, never()).findByNickname(any());
+    }
+
+    @Test
+    @DisplayName("닉네임 필터에 없더라도 이미 존재하는 닉네임이면 중복 예외가 발생한다.")
+    void registerDuplicateByConstraintTest() {
+        // given
+        UserCreateRepDto repDto = UserCreateRepDto.builder()
+                .username("test")
+                .nickname("other node user")
+                .password("password")
+                .build();
+
+        when(passwordEncoder.encode(repDto.getPassword())).thenReturn("encodedPassword");
+        when(nicknameBloomFilter.mightContain(repDto.getNickname())).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate nickname"));
+
+        // when & then
+        assertThatThrownBy(() -> userService.register(repDto).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(BusinessException.class)
+                .cause()
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EXISTS_ALREADY_USER);
+    }
+
     @Test
     @DisplayName("유저 정보 조회 시 해당 유저를 찾을 수 없을때 예외가 발생한다.")
     void notFoundUserFailTest() {